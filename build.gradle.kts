@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.2.1"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -21,21 +22,77 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadTestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val loadTestRuntimeOnly: Configuration by configurations.getting {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-mongodb-reactive")
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
     annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("io.projectreactor:reactor-test")
     testImplementation("org.testcontainers:mongodb")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.springframework.security:spring-security-test")
+    jmh("org.testcontainers:mongodb")
+    loadTestImplementation("org.testcontainers:mongodb")
+    loadTestImplementation("org.hdrhistogram:HdrHistogram:2.1.12")
+    loadTestImplementation("org.junit.jupiter:junit-jupiter")
+    "loadTestCompileOnly"("org.projectlombok:lombok")
+    "loadTestAnnotationProcessor"("org.projectlombok:lombok")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Seeds MongoDB in Testcontainers, starts the application and drives an open-model load mix."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("org.example.springreact.loadtest.LoadTest")
+    systemProperty("loadTest.resultsFile", layout.buildDirectory.file("reports/load-test/results.json").get().asFile.path)
+    project.properties
+        .filterKeys { it.startsWith("loadTest.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
+
+val loadTestUnitTest = tasks.register<Test>("loadTestUnitTest") {
+    description = "Runs the load driver's own tests without starting MongoDB or the application."
+    group = "verification"
+    testClassesDirs = sourceSets["loadTest"].output.classesDirs
+    classpath = sourceSets["loadTest"].runtimeClasspath
+}
+
+tasks.check {
+    dependsOn(loadTestUnitTest)
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,65 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.utils.BeanUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CopyBenchmark {
+    @Param({"0", "10", "1000"})
+    private int observers;
+
+    private TaskEntity taskPatch;
+    private TaskEntity taskTarget;
+    private UserEntity userPatch;
+    private UserEntity userTarget;
+
+    @Setup
+    public void setUp() {
+        Map<String, UserEntity> users = BenchmarkFixtures.users(Math.max(observers, 2));
+        taskPatch = BenchmarkFixtures.hydrated(BenchmarkFixtures.task(1, observers, users.size()), users);
+        taskPatch.setId(null);
+        taskTarget = BenchmarkFixtures.task(0, 0, users.size());
+
+        userPatch = new UserEntity();
+        userPatch.setEmail("patched@example.org");
+        userTarget = users.values().iterator().next();
+    }
+
+    @Benchmark
+    public TaskEntity copyTask() {
+        BeanUtils.copyNonNullProperties(taskPatch, taskTarget);
+        return taskTarget;
+    }
+
+    @Benchmark
+    public UserEntity copyUser() {
+        BeanUtils.copyNonNullProperties(userPatch, userTarget);
+        return userTarget;
+    }
+
+    @Benchmark
+    public TaskEntity copyTaskReflective() throws IllegalAccessException {
+        ReflectiveBeanUtils.copyNonNullProperties(taskPatch, taskTarget);
+        return taskTarget;
+    }
+
+    @Benchmark
+    public UserEntity copyUserReflective() throws IllegalAccessException {
+        ReflectiveBeanUtils.copyNonNullProperties(userPatch, userTarget);
+        return userTarget;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.dto.TaskResponse;
+import org.example.springreact.dto.UserResponse;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.mapstruct.factory.Mappers;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+    @Param({"0", "10", "1000"})
+    private int observers;
+
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+    private TaskEntity task;
+    private UserEntity user;
+
+    @Setup
+    public void setUp() {
+        taskMapper = Mappers.getMapper(TaskMapper.class);
+        userMapper = Mappers.getMapper(UserMapper.class);
+        Map<String, UserEntity> users = BenchmarkFixtures.users(Math.max(observers, 2));
+        task = BenchmarkFixtures.hydrated(BenchmarkFixtures.task(0, observers, users.size()), users);
+        user = task.getAuthor();
+    }
+
+    @Benchmark
+    public TaskResponse taskEntityToResponse() {
+        return taskMapper.entityToResponse(task);
+    }
+
+    @Benchmark
+    public UserResponse userEntityToResponse() {
+        return userMapper.entityToResponse(user);
+    }
+}
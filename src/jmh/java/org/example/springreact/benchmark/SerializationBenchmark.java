@@ -0,0 +1,107 @@
+package org.example.springreact.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.springreact.dto.TaskResponse;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"50", "500"})
+    private int tasks;
+
+    @Param({"0", "10"})
+    private int observers;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private List<TaskResponse> page;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        smileMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .factory(new SmileFactory())
+                .build();
+        TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+        Map<String, UserEntity> users = BenchmarkFixtures.users(Math.max(observers, 2) * 10);
+        page = BenchmarkFixtures.tasks(tasks, observers, users.size()).stream()
+                .map(task -> BenchmarkFixtures.hydrated(task, users))
+                .map(taskMapper::entityToResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] json(PayloadSize size) throws IOException {
+        return record(size, jsonMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] smile(PayloadSize size) throws IOException {
+        return record(size, smileMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] jsonGzip(PayloadSize size) throws IOException {
+        return record(size, gzip(jsonMapper.writeValueAsBytes(page)));
+    }
+
+    @Benchmark
+    public byte[] smileGzip(PayloadSize size) throws IOException {
+        return record(size, gzip(smileMapper.writeValueAsBytes(page)));
+    }
+
+    @Benchmark
+    public List<TaskResponse> jsonRoundTrip() throws IOException {
+        return jsonMapper.readerForListOf(TaskResponse.class).readValue(jsonMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public List<TaskResponse> smileRoundTrip() throws IOException {
+        return smileMapper.readerForListOf(TaskResponse.class).readValue(smileMapper.writeValueAsBytes(page));
+    }
+
+    private static byte[] record(PayloadSize size, byte[] payload) {
+        size.bytes = payload.length;
+        return payload;
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskHydrationBenchmark {
+    @Param({"0", "10", "1000"})
+    private int observers;
+
+    private HydrationFixture fixture;
+    private String taskId;
+
+    @Setup
+    public void setUp() {
+        Map<String, UserEntity> users = BenchmarkFixtures.users(Math.max(observers, 2));
+        TaskEntity task = BenchmarkFixtures.task(0, observers, users.size());
+        taskId = task.getId();
+        fixture = new HydrationFixture(users, Map.of(taskId, task));
+    }
+
+    @Benchmark
+    public TaskEntity findById() {
+        return fixture.taskService.findById(taskId).block();
+    }
+}
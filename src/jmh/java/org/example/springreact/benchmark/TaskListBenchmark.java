@@ -0,0 +1,72 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.dto.TaskResponse;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskListBenchmark {
+    private static final int USERS = 1_000;
+    private static final int OBSERVERS_PER_TASK = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int tasks;
+
+    private HydrationFixture fixture;
+    private TaskMapper taskMapper;
+    private List<TaskEntity> taskList;
+    private List<TaskEntity> hydratedTasks;
+
+    @Setup
+    public void setUp() {
+        Map<String, UserEntity> users = BenchmarkFixtures.users(USERS);
+        taskList = BenchmarkFixtures.tasks(tasks, OBSERVERS_PER_TASK, USERS);
+        Map<String, TaskEntity> tasksById = new LinkedHashMap<>();
+        taskList.forEach(task -> tasksById.put(task.getId(), task));
+
+        fixture = new HydrationFixture(users, tasksById);
+        taskMapper = Mappers.getMapper(TaskMapper.class);
+        hydratedTasks = BenchmarkFixtures.tasks(tasks, OBSERVERS_PER_TASK, USERS).stream()
+                .map(task -> BenchmarkFixtures.hydrated(task, users))
+                .toList();
+    }
+
+    @Benchmark
+    public List<TaskEntity> populateTasksWithUsers() {
+        return fixture.userBatchLoader.populateTasksWithUsers(Flux.fromIterable(taskList))
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<TaskEntity> findAll() {
+        return fixture.taskService.findAll()
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<TaskResponse> entityToResponse() {
+        return hydratedTasks.stream()
+                .map(taskMapper::entityToResponse)
+                .toList();
+    }
+}
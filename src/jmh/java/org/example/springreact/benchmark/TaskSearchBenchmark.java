@@ -0,0 +1,95 @@
+package org.example.springreact.benchmark;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.model.TaskFilter;
+import org.example.springreact.repository.ReadRouting;
+import org.example.springreact.repository.TaskRepositoryCustomImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.testcontainers.containers.MongoDBContainer;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskSearchBenchmark {
+    private static final String[] WORDS = {"deploy", "invoice", "migration", "onboarding",
+            "release", "audit", "backup", "report"};
+    private static final String QUERY = "migration";
+    private static final int USERS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    private int tasks;
+
+    private MongoDBContainer mongo;
+    private MongoClient client;
+    private ReactiveMongoTemplate mongoTemplate;
+    private TaskRepositoryCustomImpl repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongo = new MongoDBContainer("mongo:6.0.8");
+        mongo.start();
+        client = MongoClients.create(mongo.getReplicaSetUrl());
+        mongoTemplate = new ReactiveMongoTemplate(client, "benchmark");
+        repository = new TaskRepositoryCustomImpl(mongoTemplate, ReadRouting.primaryOnly(mongoTemplate));
+
+        List<TaskEntity> taskList = BenchmarkFixtures.tasks(tasks, 10, USERS);
+        for (int i = 0; i < taskList.size(); i++) {
+            TaskEntity task = taskList.get(i);
+            task.setDescription(task.getDescription() + " " + WORDS[i % WORDS.length]);
+        }
+        Flux.fromIterable(taskList)
+                .buffer(5_000)
+                .concatMap(batch -> mongoTemplate.insert(batch, TaskEntity.class))
+                .blockLast();
+        mongoTemplate.indexOps(TaskEntity.class)
+                .ensureIndex(TextIndexDefinition.builder().onField("name", 2F).onField("description").build())
+                .block();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        mongo.stop();
+    }
+
+    @Benchmark
+    public List<TaskEntity> textSearch() {
+        return repository.search(QUERY, TaskFilter.NONE, 0, PAGE_SIZE)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<TaskEntity> scanAll() {
+        return mongoTemplate.findAll(TaskEntity.class)
+                .collectList()
+                .map(all -> all.stream()
+                        .filter(task -> contains(task.getName()) || contains(task.getDescription()))
+                        .limit(PAGE_SIZE)
+                        .toList())
+                .block();
+    }
+
+    private static boolean contains(String value) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(QUERY);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.springreact.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(Operation operation, long latencyNanos, boolean failed) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.get(operation).recordValue(micros);
+        if (failed) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public void drop() {
+        dropped.increment();
+    }
+
+    public Map<String, Object> summary(LoadTarget target, int offeredRate, double elapsedSeconds) {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation).copy();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long operationErrors = errors.get(operation).sum();
+            total.add(histogram);
+            totalErrors += operationErrors;
+            operations.put(operation.name().toLowerCase(Locale.ROOT), stats(histogram, operationErrors, elapsedSeconds));
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("target", target.name().toLowerCase(Locale.ROOT));
+        summary.put("basePath", target.getBasePath());
+        summary.put("offeredRate", offeredRate);
+        summary.put("elapsedSeconds", round(elapsedSeconds));
+        summary.put("dropped", dropped.sum());
+        summary.put("total", stats(total, totalErrors, elapsedSeconds));
+        summary.put("operations", operations);
+        return summary;
+    }
+
+    private static Map<String, Object> stats(Histogram histogram, long errorCount, double elapsedSeconds) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", histogram.getTotalCount());
+        stats.put("errors", errorCount);
+        stats.put("throughput", round((histogram.getTotalCount() - errorCount) / elapsedSeconds));
+        stats.put("meanMs", round(histogram.getMean() / 1_000));
+        stats.put("p50Ms", millis(histogram, 50));
+        stats.put("p95Ms", millis(histogram, 95));
+        stats.put("p99Ms", millis(histogram, 99));
+        stats.put("p999Ms", millis(histogram, 99.9));
+        stats.put("maxMs", round(histogram.getMaxValue() / 1_000.0));
+        return stats;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000) / 1_000.0;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.springreact.loadtest;
+
+import org.example.springreact.dto.UpsertTaskRequest;
+import org.example.springreact.model.TaskStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoadDriver {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final WebClient client;
+    private final LoadTestSettings settings;
+    private final LoadTestSeeder.SeededData data;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    public LoadDriver(WebClient client, LoadTestSettings settings, LoadTestSeeder.SeededData data) {
+        this.client = client;
+        this.settings = settings;
+        this.data = data;
+        this.operations = settings.getMix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.getMix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Load mix must have a positive total weight");
+        }
+    }
+
+    public Map<String, Object> run(LoadTarget target) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long warmupRequests = settings.getWarmup().toNanos() / periodNanos;
+        long totalRequests = warmupRequests + settings.getDuration().toNanos() / periodNanos;
+
+        long start = System.nanoTime();
+        long measureStart = start + warmupRequests * periodNanos;
+        // tick n fires at start + n * period, so the first request goes out immediately
+        Flux.interval(Duration.ZERO, Duration.ofNanos(periodNanos))
+                .take(totalRequests)
+                .onBackpressureDrop(tick -> {
+                    if (tick >= warmupRequests) {
+                        recorder.drop();
+                    }
+                })
+                .flatMap(tick -> send(target, start + tick * periodNanos, tick >= warmupRequests ? recorder : null),
+                        settings.getMaxInFlight())
+                .blockLast();
+        double elapsedSeconds = (System.nanoTime() - measureStart) / (double) TimeUnit.SECONDS.toNanos(1);
+        return recorder.summary(target, settings.getRate(), elapsedSeconds);
+    }
+
+    private Mono<Void> send(LoadTarget target, long intendedStart, LatencyRecorder recorder) {
+        Operation operation = pick();
+        return request(target, operation)
+                .timeout(REQUEST_TIMEOUT)
+                .thenReturn(false)
+                .onErrorReturn(true)
+                .doOnNext(failed -> {
+                    // Latency is measured from the scheduled start so that queueing delay is not hidden.
+                    if (recorder != null) {
+                        recorder.record(operation, System.nanoTime() - intendedStart, failed);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> request(LoadTarget target, Operation operation) {
+        String basePath = target.getBasePath();
+        return switch (operation) {
+            case LIST -> client.get()
+                    .uri(uri -> uri.path(basePath).queryParam("limit", settings.getPageSize()).build())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then();
+            case GET -> client.get()
+                    .uri(basePath + "/{id}", randomTaskId())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then();
+            case CREATE -> client.post()
+                    .uri(basePath)
+                    .bodyValue(taskRequest("Load task"))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then();
+            case UPDATE -> client.method(target.getUpdateMethod())
+                    .uri(basePath + "/{id}", randomTaskId())
+                    .bodyValue(taskRequest("Updated task"))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then();
+            case OBSERVE -> client.post()
+                    .uri(basePath + "/{id}/observe", randomTaskId())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then();
+        };
+    }
+
+    private Operation pick() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private String randomTaskId() {
+        return random(data.getTaskIds());
+    }
+
+    private UpsertTaskRequest taskRequest(String name) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UpsertTaskRequest request = new UpsertTaskRequest();
+        request.setName(name + " " + random.nextInt(1_000_000));
+        request.setDescription("Generated by the load test");
+        request.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+        request.setAssigneeId(random(data.getUserIds()));
+        return request;
+    }
+
+    private static String random(List<String> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.springreact.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadDriverTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void whenServerRespondsInstantly_thenReportNearZeroLatency() {
+        WebClient client = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .build();
+        LoadTestSettings settings = new LoadTestSettings();
+        settings.setRate(20);
+        settings.setWarmup(Duration.ZERO);
+        settings.setDuration(Duration.ofSeconds(1));
+        settings.setMix(Map.of(Operation.GET, 1));
+        LoadDriver driver = new LoadDriver(client, settings, new LoadTestSeeder.SeededData(List.of("user"), List.of("task")));
+
+        Map<String, Object> total = (Map<String, Object>) driver.run(LoadTarget.ANNOTATED).get("total");
+
+        assertEquals(20L, total.get("requests"));
+        assertEquals(0L, total.get("errors"));
+        // a one-period offset would put every sample at 50 ms or more
+        assertTrue((double) total.get("p50Ms") < 25, "median latency " + total.get("p50Ms") + " ms");
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.springreact.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+
+@Getter
+@RequiredArgsConstructor
+public enum LoadTarget {
+    ANNOTATED("/api/tasks", HttpMethod.POST),
+    FUNCTIONAL("/api/functions/tasks", HttpMethod.PUT);
+
+    private final String basePath;
+    private final HttpMethod updateMethod;
+}
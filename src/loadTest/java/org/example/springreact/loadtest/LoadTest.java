@@ -0,0 +1,117 @@
+package org.example.springreact.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springreact.SpringReactApplication;
+import org.example.springreact.dto.TokenResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.MongoDBContainer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class LoadTest {
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Instant startedAt = Instant.now();
+        List<Map<String, Object>> runs = new ArrayList<>();
+
+        try (MongoDBContainer mongo = new MongoDBContainer(settings.getMongoImage())) {
+            mongo.start();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringReactApplication.class)
+                    .properties("spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("loadtest"),
+                            "server.port=0",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN")
+                    .run(args)) {
+                LoadTestSeeder.SeededData data = new LoadTestSeeder(context.getBean(ReactiveMongoTemplate.class),
+                        context.getBean(PasswordEncoder.class)).seed(settings);
+                System.out.printf("Seeded %d users and %d tasks%n", data.getUserIds().size(), data.getTaskIds().size());
+
+                String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadDriver driver = new LoadDriver(client(baseUrl, settings), settings, data);
+                for (LoadTarget target : settings.getTargets()) {
+                    System.out.printf("Running %s (%s) at %d req/s for %s after %s warm-up%n", target.name().toLowerCase(Locale.ROOT),
+                            target.getBasePath(), settings.getRate(), settings.getDuration(), settings.getWarmup());
+                    Map<String, Object> run = driver.run(target);
+                    print(run);
+                    runs.add(run);
+                }
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("settings", describe(settings));
+        report.put("runs", runs);
+        Files.createDirectories(settings.getResultsFile().toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(settings.getResultsFile().toFile(), report);
+        System.out.println("Results written to " + settings.getResultsFile().toAbsolutePath());
+    }
+
+    private static WebClient client(String baseUrl, LoadTestSettings settings) {
+        TokenResponse token = WebClient.create(baseUrl).post()
+                .uri("/api/auth/token")
+                .headers(headers -> headers.setBasicAuth(LoadTestSeeder.MANAGER_USERNAME, LoadTestSeeder.MANAGER_PASSWORD))
+                .retrieve()
+                .bodyToMono(TokenResponse.class)
+                .block();
+
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(settings.getMaxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections).compress(true)))
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token.getAccessToken())
+                .build();
+    }
+
+    private static Map<String, Object> describe(LoadTestSettings settings) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("users", settings.getUsers());
+        description.put("tasks", settings.getTasks());
+        description.put("observersPerTask", settings.getObserversPerTask());
+        description.put("rate", settings.getRate());
+        description.put("warmup", settings.getWarmup().toString());
+        description.put("duration", settings.getDuration().toString());
+        description.put("maxInFlight", settings.getMaxInFlight());
+        description.put("pageSize", settings.getPageSize());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.getMix().forEach((operation, weight) -> mix.put(operation.name().toLowerCase(Locale.ROOT), weight));
+        description.put("mix", mix);
+        return description;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> run) {
+        System.out.printf("Throughput %.1f req/s, dropped %s%n",
+                ((Map<String, Object>) run.get("total")).get("throughput"), run.get("dropped"));
+        System.out.printf("%-8s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) run.get("operations"));
+        rows.put("total", run.get("total"));
+        rows.forEach((name, value) -> {
+            Map<String, Object> stats = (Map<String, Object>) value;
+            System.out.printf("%-8s %9s %7s %10s %9s %9s %9s %9s %9s%n", name, stats.get("requests"), stats.get("errors"),
+                    stats.get("throughput"), stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms"),
+                    stats.get("p999Ms"), stats.get("maxMs"));
+        });
+    }
+}
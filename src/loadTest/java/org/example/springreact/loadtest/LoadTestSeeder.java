@@ -0,0 +1,95 @@
+package org.example.springreact.loadtest;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.RoleType;
+import org.example.springreact.model.TaskStatus;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+public class LoadTestSeeder {
+    public static final String MANAGER_USERNAME = "load-test-manager";
+    public static final String MANAGER_PASSWORD = "load-test";
+
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final String SEED_PASSWORD = "$2a$12$0123456789012345678901234567890123456789012345678901";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Data
+    public static class SeededData {
+        private final List<String> userIds;
+        private final List<String> taskIds;
+    }
+
+    public SeededData seed(LoadTestSettings settings) {
+        Random random = new Random(42);
+        Instant now = Instant.now();
+
+        List<UserEntity> users = new ArrayList<>(settings.getUsers() + 1);
+        users.add(user("load-test-user-manager", MANAGER_USERNAME, passwordEncoder.encode(MANAGER_PASSWORD),
+                RoleType.ROLE_MANAGER, now));
+        for (int i = 0; i < settings.getUsers(); i++) {
+            users.add(user("load-test-user-" + i, "Load user " + i, SEED_PASSWORD, RoleType.ROLE_USER, now.plusMillis(i)));
+        }
+        List<String> userIds = users.stream().map(UserEntity::getId).toList();
+
+        List<TaskEntity> tasks = IntStream.range(0, settings.getTasks())
+                .mapToObj(i -> task(i, userIds, settings.getObserversPerTask(), random, now))
+                .toList();
+
+        Flux.fromIterable(users)
+                .buffer(INSERT_BATCH_SIZE)
+                .concatMap(batch -> mongoTemplate.insert(batch, UserEntity.class))
+                .thenMany(Flux.fromIterable(tasks)
+                        .buffer(INSERT_BATCH_SIZE)
+                        .concatMap(batch -> mongoTemplate.insert(batch, TaskEntity.class)))
+                .blockLast();
+
+        return new SeededData(userIds, tasks.stream().map(TaskEntity::getId).toList());
+    }
+
+    private static UserEntity user(String id, String username, String password, RoleType role, Instant createdAt) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(id + "@example.org");
+        user.setPassword(password);
+        user.setRoles(new HashSet<>(Set.of(role)));
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(createdAt);
+        return user;
+    }
+
+    private static TaskEntity task(int index, List<String> userIds, int observers, Random random, Instant now) {
+        TaskEntity task = new TaskEntity();
+        task.setId("load-test-task-" + index);
+        task.setName("Task " + index);
+        task.setDescription("Seeded task " + index);
+        task.setStatus(TaskStatus.values()[index % TaskStatus.values().length]);
+        task.setCreatedAt(now.plusMillis(index));
+        task.setUpdatedAt(task.getCreatedAt());
+        task.setAuthorId(userIds.get(random.nextInt(userIds.size())));
+        task.setAssigneeId(userIds.get(random.nextInt(userIds.size())));
+
+        Set<String> observerIds = new HashSet<>();
+        while (observerIds.size() < Math.min(observers, userIds.size())) {
+            observerIds.add(userIds.get(random.nextInt(userIds.size())));
+        }
+        task.setObserverIds(observerIds);
+        return task;
+    }
+}
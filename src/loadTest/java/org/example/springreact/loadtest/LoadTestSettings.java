@@ -0,0 +1,84 @@
+package org.example.springreact.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+public class LoadTestSettings {
+    private static final String PREFIX = "loadTest.";
+
+    private String mongoImage = "mongo:6.0.8";
+    private int users = 1_000;
+    private int tasks = 10_000;
+    private int observersPerTask = 5;
+    private int rate = 200;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private int maxInFlight = 512;
+    private int pageSize = 50;
+    private List<LoadTarget> targets = List.of(LoadTarget.values());
+    private Map<Operation, Integer> mix = defaultMix();
+    private Path resultsFile = Path.of("build", "reports", "load-test", "results.json");
+
+    public static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings();
+        settings.setMongoImage(property("mongoImage", settings.getMongoImage()));
+        settings.setUsers(Integer.parseInt(property("users", String.valueOf(settings.getUsers()))));
+        settings.setTasks(Integer.parseInt(property("tasks", String.valueOf(settings.getTasks()))));
+        settings.setObserversPerTask(Integer.parseInt(property("observersPerTask", String.valueOf(settings.getObserversPerTask()))));
+        settings.setRate(Integer.parseInt(property("rate", String.valueOf(settings.getRate()))));
+        settings.setWarmup(DurationStyle.detectAndParse(property("warmup", "10s")));
+        settings.setDuration(DurationStyle.detectAndParse(property("duration", "60s")));
+        settings.setMaxInFlight(Integer.parseInt(property("maxInFlight", String.valueOf(settings.getMaxInFlight()))));
+        settings.setPageSize(Integer.parseInt(property("pageSize", String.valueOf(settings.getPageSize()))));
+        String targets = System.getProperty(PREFIX + "targets");
+        if (targets != null) {
+            settings.setTargets(Arrays.stream(targets.split(","))
+                    .map(target -> LoadTarget.valueOf(target.trim().toUpperCase(Locale.ROOT)))
+                    .toList());
+        }
+        String mix = System.getProperty(PREFIX + "mix");
+        if (mix != null) {
+            settings.setMix(parseMix(mix));
+        }
+        String resultsFile = System.getProperty(PREFIX + "resultsFile");
+        if (resultsFile != null) {
+            settings.setResultsFile(Path.of(resultsFile));
+        }
+        return settings;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static Map<Operation, Integer> defaultMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.LIST, 50);
+        mix.put(Operation.GET, 30);
+        mix.put(Operation.CREATE, 8);
+        mix.put(Operation.UPDATE, 8);
+        mix.put(Operation.OBSERVE, 4);
+        return mix;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entry must look like 'list=50': " + entry);
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.springreact.loadtest;
+
+public enum Operation {
+    LIST,
+    GET,
+    CREATE,
+    UPDATE,
+    OBSERVE
+}
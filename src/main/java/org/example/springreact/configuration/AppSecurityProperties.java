@@ -0,0 +1,28 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.security")
+public class AppSecurityProperties {
+    private boolean basicAuthEnabled = false;
+    private Token token = new Token();
+    private PasswordHashing passwordHashing = new PasswordHashing();
+
+    @Data
+    public static class Token {
+        private String secret;
+        private Duration ttl = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class PasswordHashing {
+        private int poolSize = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 256;
+    }
+}
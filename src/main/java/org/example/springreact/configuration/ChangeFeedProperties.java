@@ -0,0 +1,16 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.change-feed")
+public class ChangeFeedProperties {
+    private int historySize = 1000;
+    private int clientBufferSize = 256;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
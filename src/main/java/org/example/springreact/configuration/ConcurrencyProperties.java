@@ -0,0 +1,15 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.concurrency")
+public class ConcurrencyProperties {
+    private int maxRetries = 3;
+    private Duration retryBackoff = Duration.ofMillis(10);
+}
@@ -0,0 +1,18 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.example.springreact.model.HydrationEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.hydration")
+public class HydrationProperties {
+    private int batchSize = 256;
+    private Duration batchMaxWait = Duration.ofMillis(10);
+    private HydrationEngine findAllEngine = HydrationEngine.APPLICATION;
+    private HydrationEngine findByIdEngine = HydrationEngine.APPLICATION;
+}
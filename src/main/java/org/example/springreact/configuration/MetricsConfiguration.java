@@ -0,0 +1,38 @@
+package org.example.springreact.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.springreact.metrics.AppMetrics;
+import org.example.springreact.metrics.MappingMetricsPostProcessor;
+import org.example.springreact.metrics.MongoCommandMetricsListener;
+import org.example.springreact.service.UserCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MeterRegistry meterRegistry) {
+        return builder -> builder.addCommandListener(new MongoCommandMetricsListener(meterRegistry));
+    }
+
+    @Bean
+    public static MappingMetricsPostProcessor mappingMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MappingMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder userCacheMetrics(UserCache userCache) {
+        return registry -> {
+            FunctionCounter.builder(AppMetrics.USER_CACHE_REQUESTS, userCache, UserCache::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder(AppMetrics.USER_CACHE_REQUESTS, userCache, UserCache::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+}
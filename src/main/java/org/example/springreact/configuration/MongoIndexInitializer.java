@@ -0,0 +1,110 @@
+package org.example.springreact.configuration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(UserEntity.class, TaskEntity.class);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String ID_INDEX = "_id_";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Flux.fromIterable(INDEXED_ENTITIES)
+                .concatMap(this::ensureIndexes)
+                .then()
+                .timeout(TIMEOUT)
+                .onErrorResume(error -> {
+                    log.error("Index initialization failed", error);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    private Mono<Void> ensureIndexes(Class<?> entityType) {
+        String collection = mongoTemplate.getCollectionName(entityType);
+        List<IndexDefinition> declared = new ArrayList<>();
+        new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(entityType).forEach(declared::add);
+        ReactiveIndexOperations indexOperations = mongoTemplate.indexOps(entityType);
+
+        return Flux.fromIterable(declared)
+                .concatMap(index -> indexOperations.ensureIndex(index)
+                        .onErrorResume(error -> {
+                            log.warn("Could not create index {} on {}: {}", indexName(index), collection, error.getMessage());
+                            return Mono.empty();
+                        }))
+                .then(indexStats(collection))
+                .doOnNext(stats -> report(collection, declared, stats))
+                .then();
+    }
+
+    private Mono<Map<String, Document>> indexStats(String collection) {
+        return mongoTemplate.getCollection(collection)
+                .flatMapMany(mongoCollection -> mongoCollection.aggregate(List.of(new Document("$indexStats", new Document()))))
+                .collectMap(stats -> stats.getString("name"))
+                .onErrorResume(error -> {
+                    log.warn("Could not read index usage for {}: {}", collection, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void report(String collection, List<IndexDefinition> declared, Map<String, Document> stats) {
+        Set<String> declaredNames = declared.stream()
+                .map(MongoIndexInitializer::indexName)
+                .collect(Collectors.toSet());
+
+        for (String name : declaredNames) {
+            if (!stats.containsKey(name)) {
+                log.warn("Index {} on {} is declared but missing", name, collection);
+            }
+        }
+        for (Document index : stats.values()) {
+            String name = index.getString("name");
+            if (ID_INDEX.equals(name)) {
+                continue;
+            }
+            if (!declaredNames.contains(name)) {
+                log.warn("Index {} on {} exists but is not declared by the mapping", name, collection);
+            }
+            Document accesses = index.get("accesses", Document.class);
+            if (accesses != null && ((Number) accesses.get("ops")).longValue() == 0) {
+                log.info("Index {} on {} has not been used since {}", name, collection, accesses.get("since"));
+            }
+        }
+    }
+
+    private static String indexName(IndexDefinition index) {
+        String name = index.getIndexOptions().getString("name");
+        if (name != null) {
+            return name;
+        }
+        return index.getIndexKeys().entrySet().stream()
+                .map(key -> key.getKey() + "_" + key.getValue())
+                .collect(Collectors.joining("_"));
+    }
+}
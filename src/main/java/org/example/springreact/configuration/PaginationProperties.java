@@ -0,0 +1,21 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.pagination")
+public class PaginationProperties {
+    private int defaultLimit = 50;
+    private int maxLimit = 500;
+    private int streamBatchSize = 256;
+
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
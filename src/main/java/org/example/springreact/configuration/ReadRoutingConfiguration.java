@@ -0,0 +1,17 @@
+package org.example.springreact.configuration;
+
+import org.example.springreact.repository.ReadRouting;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+@Configuration
+public class ReadRoutingConfiguration {
+    @Bean
+    public ReadRouting readRouting(ReactiveMongoTemplate reactiveMongoTemplate, ReadRoutingProperties properties) {
+        ReactiveMongoTemplate secondary = new ReactiveMongoTemplate(reactiveMongoTemplate.getMongoDatabaseFactory(),
+                reactiveMongoTemplate.getConverter());
+        secondary.setReadPreference(properties.resolveReadPreference());
+        return new ReadRouting(reactiveMongoTemplate, secondary);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.springreact.configuration;
+
+import com.mongodb.ReadPreference;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.read-routing")
+public class ReadRoutingProperties {
+    private String readPreference = "secondaryPreferred";
+    private Duration maxStaleness = Duration.ofSeconds(90);
+    private List<String> routes = new ArrayList<>();
+
+    public ReadPreference resolveReadPreference() {
+        ReadPreference preference = ReadPreference.valueOf(readPreference);
+        // the driver rejects max staleness for primary reads
+        if (maxStaleness == null || preference.equals(ReadPreference.primary())) {
+            return preference;
+        }
+        return ReadPreference.valueOf(readPreference, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
@@ -25,11 +25,15 @@ public class RoutingConfiguration {
     public RouterFunction<ServerResponse> taskRouters(TaskHandler taskHandler) {
         return RouterFunctions.route()
                 .GET("/api/functions/tasks", taskHandler::getAll)
+                .GET("/api/functions/tasks/changes", taskHandler::getChanges)
+                .GET("/api/functions/tasks/search", taskHandler::search)
                 .GET("/api/functions/tasks/{id}", taskHandler::getById)
                 .POST("/api/functions/tasks", taskHandler::create)
+                .POST("/api/functions/tasks/import", taskHandler::importTasks)
                 .PUT("/api/functions/tasks/{id}", taskHandler::update)
                 .DELETE("/api/functions/tasks/{id}", taskHandler::delete)
                 .POST("/api/functions/tasks/{id}/observe", taskHandler::addObserver)
+                .DELETE("/api/functions/tasks/{id}/observe", taskHandler::removeObserver)
                 .build();
     }
 }
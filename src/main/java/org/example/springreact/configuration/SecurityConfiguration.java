@@ -1,24 +1,42 @@
 package org.example.springreact.configuration;
 
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.security.BearerTokenServerAuthenticationConverter;
+import org.example.springreact.security.PasswordHashingScheduler;
+import org.example.springreact.security.TokenAuthenticationManager;
+import org.example.springreact.security.TokenService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 @EnableWebFluxSecurity
 @EnableReactiveMethodSecurity
+@RequiredArgsConstructor
 public class SecurityConfiguration {
 
+    private final AppSecurityProperties securityProperties;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder(12);
@@ -26,31 +44,67 @@ public class SecurityConfiguration {
 
     @Bean
     public ReactiveAuthenticationManager authenticationManager(ReactiveUserDetailsService userDetailsService,
-                                                               PasswordEncoder passwordEncoder) {
+                                                               PasswordEncoder passwordEncoder,
+                                                               PasswordHashingScheduler passwordHashingScheduler) {
         var reactiveAuthenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
         reactiveAuthenticationManager.setPasswordEncoder(passwordEncoder);
-        return reactiveAuthenticationManager;
+        reactiveAuthenticationManager.setScheduler(passwordHashingScheduler.getScheduler());
+        return authentication -> reactiveAuthenticationManager.authenticate(authentication)
+                .onErrorMap(RejectedExecutionException.class, PasswordHashingScheduler::overloaded);
     }
 
     @Bean
-    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http, ReactiveAuthenticationManager authenticationManager) {
-        return buildDefaultHttpSecurity(http)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityWebFilterChain tokenIssuerFilterChain(ServerHttpSecurity http, ReactiveAuthenticationManager authenticationManager) {
+        return http.securityMatcher(ServerWebExchangeMatchers.pathMatchers("/api/auth/**"))
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange((auth) -> auth.anyExchange().authenticated())
                 .authenticationManager(authenticationManager)
+                .httpBasic(Customizer.withDefaults())
                 .build();
     }
 
+    @Bean
+    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http,
+                                                            ReactiveAuthenticationManager authenticationManager,
+                                                            TokenService tokenService) {
+        ServerHttpSecurity security = buildDefaultHttpSecurity(http)
+                .authenticationManager(authenticationManager)
+                .addFilterAt(tokenAuthenticationFilter(tokenService), SecurityWebFiltersOrder.AUTHENTICATION);
+
+        if (securityProperties.isBasicAuthEnabled()) {
+            security.httpBasic(Customizer.withDefaults());
+        } else {
+            security.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                    .exceptionHandling((exceptions) -> exceptions
+                            .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)));
+        }
+        return security.build();
+    }
+
+    private AuthenticationWebFilter tokenAuthenticationFilter(TokenService tokenService) {
+        var filter = new AuthenticationWebFilter(new TokenAuthenticationManager(tokenService));
+        filter.setServerAuthenticationConverter(new BearerTokenServerAuthenticationConverter());
+        filter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(
+                new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)));
+        return filter;
+    }
+
     private ServerHttpSecurity buildDefaultHttpSecurity(ServerHttpSecurity http) {
         return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .authorizeExchange((auth) -> auth
+                        .pathMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        .pathMatchers("/actuator/**").hasRole("MANAGER")
                         .pathMatchers(HttpMethod.POST, "/api/functions/users").permitAll()
                         .pathMatchers("/api/functions/users/**").hasAnyRole("USER", "MANAGER")
                         .pathMatchers(HttpMethod.GET, "/api/functions/tasks/**").hasAnyRole("USER", "MANAGER")
                         .pathMatchers(HttpMethod.POST, "/api/functions/tasks/{id}/observe").hasAnyRole("USER", "MANAGER")
+                        .pathMatchers(HttpMethod.DELETE, "/api/functions/tasks/{id}/observe").hasAnyRole("USER", "MANAGER")
                         .pathMatchers(HttpMethod.POST, "/api/functions/tasks").hasRole("MANAGER")
+                        .pathMatchers(HttpMethod.POST, "/api/functions/tasks/import").hasRole("MANAGER")
                         .pathMatchers(HttpMethod.PUT, "/api/functions/tasks/*").hasRole("MANAGER")
                         .pathMatchers(HttpMethod.DELETE, "/api/functions/tasks/*").hasRole("MANAGER")
                         .pathMatchers(HttpMethod.POST, "/api/users").permitAll()
-                        .anyExchange().authenticated())
-                .httpBasic(Customizer.withDefaults());
+                        .anyExchange().authenticated());
     }
 }
@@ -0,0 +1,18 @@
+package org.example.springreact.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.model.TaskView;
+import org.example.springreact.service.SingleFlight;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.util.function.Tuple2;
+
+@Configuration
+public class SingleFlightConfiguration {
+    @Bean
+    public SingleFlight<Tuple2<String, TaskView>, TaskEntity> taskSingleFlight(SingleFlightProperties properties,
+                                                                              MeterRegistry meterRegistry) {
+        return new SingleFlight<>("task", properties.getWindow(), meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.single-flight")
+public class SingleFlightProperties {
+    private Duration window = Duration.ofMillis(20);
+}
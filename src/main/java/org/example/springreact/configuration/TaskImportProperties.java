@@ -0,0 +1,12 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task-import")
+public class TaskImportProperties {
+    private int batchSize = 500;
+}
@@ -0,0 +1,15 @@
+package org.example.springreact.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.user-cache")
+public class UserCacheProperties {
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
@@ -0,0 +1,25 @@
+package org.example.springreact.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.dto.TokenResponse;
+import org.example.springreact.security.AppUserPrincipal;
+import org.example.springreact.security.TokenService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+    private final TokenService tokenService;
+
+    @PostMapping("/token")
+    public Mono<ResponseEntity<TokenResponse>> issueToken(@AuthenticationPrincipal Mono<AppUserPrincipal> principal) {
+        return principal.map(tokenService::issue)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -1,37 +1,163 @@
 package org.example.springreact.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.springreact.dto.ObserverResponse;
+import org.example.springreact.dto.TaskChangeEvent;
+import org.example.springreact.dto.TaskImportResult;
 import org.example.springreact.dto.TaskResponse;
 import org.example.springreact.dto.UpsertTaskRequest;
+import org.example.springreact.entity.TaskEntity;
 import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.PageCursor;
+import org.example.springreact.model.TaskFilter;
+import org.example.springreact.model.TaskSort;
+import org.example.springreact.model.TaskStatus;
+import org.example.springreact.model.TaskView;
 import org.example.springreact.security.AppUserPrincipal;
+import org.example.springreact.service.TaskChangeFeed;
+import org.example.springreact.service.TaskImportService;
 import org.example.springreact.service.TaskService;
+import org.example.springreact.service.UserLookupMemo;
+import org.example.springreact.utils.BodyMediaTypes;
+import org.example.springreact.utils.ETags;
+import org.example.springreact.utils.StreamingMediaTypes;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskImportService taskImportService;
 
     @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
     @GetMapping
-    public Flux<TaskResponse> getAllTasks() {
-        return taskService.findAll().map(taskMapper::entityToResponse);
+    public Mono<ResponseEntity<Flux<TaskResponse>>> getAllTasks(@RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) String after,
+                                                               @RequestParam(defaultValue = "false") boolean unpaged,
+                                                               @RequestParam(required = false) TaskStatus status,
+                                                               @RequestParam(required = false) String assigneeId,
+                                                               @RequestParam(required = false) String authorId,
+                                                               @RequestParam(required = false) String observerId,
+                                                               @RequestParam(required = false)
+                                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince,
+                                                               @RequestParam(required = false) String sort,
+                                                               @RequestParam(required = false) String fields,
+                                                               @RequestParam(required = false) String expand,
+                                                               @RequestHeader HttpHeaders headers,
+                                                               ServerHttpRequest request) {
+        TaskFilter filter = new TaskFilter(status, assigneeId, authorId, observerId, updatedSince);
+        TaskSort taskSort = TaskSort.parse(sort);
+        TaskView view = TaskView.parse(fields, expand);
+        Flux<TaskResponse> tasks = UserLookupMemo.map(taskService.findAll(filter, taskSort, view),
+                (task, memo) -> taskMapper.entityToResponse(task, view, memo));
+        Optional<MediaType> streamingType = StreamingMediaTypes.select(headers.getAccept());
+        if (streamingType.isPresent()) {
+            return Mono.just(ResponseEntity.ok()
+                    .contentType(streamingType.get())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(tasks));
+        }
+        PageCursor cursor = PageCursor.decode(after);
+        MediaType bodyType = BodyMediaTypes.select(headers.getAccept());
+        if (unpaged) {
+            return taskService.findCollectionTag(filter, bodyType + "?" + request.getURI().getRawQuery())
+                    .map(etag -> {
+                        if (ETags.matches(headers.getIfNoneMatch(), etag)) {
+                            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                    .eTag(etag)
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .<Flux<TaskResponse>>build();
+                        }
+                        return ResponseEntity.ok()
+                                .contentType(bodyType)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .body(tasks);
+                    });
+        }
+        return UserLookupMemo.map(taskService.findPage(filter, taskSort, view, cursor, limit), (page, memo) -> {
+            String etag = taskService.pageTag(page, view, bodyType);
+            if (ETags.matches(headers.getIfNoneMatch(), etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .<Flux<TaskResponse>>build();
+            }
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(bodyType)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT);
+            if (page.getNextCursor() != null) {
+                response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(Flux.fromIterable(page.map(task -> taskMapper.entityToResponse(task, view, memo)).getContent()));
+        });
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskChangeEvent>> getChanges(@RequestParam(required = false) String resumeAfter,
+                                                             @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return taskChangeFeed.events(resumeAfter != null ? resumeAfter : lastEventId);
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
+    @GetMapping("/search")
+    public ResponseEntity<Flux<TaskResponse>> search(@RequestParam(required = false) String q,
+                                                     @RequestParam(required = false) TaskStatus status,
+                                                     @RequestParam(required = false) String assigneeId,
+                                                     @RequestParam(required = false) Integer page,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestHeader HttpHeaders headers) {
+        TaskFilter filter = new TaskFilter(status, assigneeId, null, null, null);
+        return ResponseEntity.ok()
+                .contentType(BodyMediaTypes.select(headers.getAccept()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(UserLookupMemo.map(taskService.search(q, filter, page, limit), taskMapper::entityToResponse));
     }
 
     @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<TaskResponse>> getById(@PathVariable String id) {
-        return taskService.findById(id)
-                .map(taskMapper::entityToResponse)
-                .map(ResponseEntity::ok)
+    public Mono<ResponseEntity<TaskResponse>> getById(@PathVariable String id,
+                                                      @RequestParam(required = false) String fields,
+                                                      @RequestParam(required = false) String expand,
+                                                      @RequestHeader HttpHeaders headers) {
+        TaskView view = TaskView.parse(fields, expand);
+        MediaType bodyType = BodyMediaTypes.select(headers.getAccept());
+        return taskService.findEntityTag(id, view, bodyType)
+                .flatMap(etag -> {
+                    if (ETags.matches(headers.getIfNoneMatch(), etag)) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .<TaskResponse>build());
+                    }
+                    // the tag must describe the body actually sent, not the version seen by the probe
+                    return taskService.findById(id, view)
+                            .map(task -> ResponseEntity.ok()
+                                    .contentType(bodyType)
+                                    .eTag(taskService.entityTag(task, view, bodyType))
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .body(taskMapper.entityToResponse(task, view)));
+                })
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -44,12 +170,25 @@ public class TaskController {
                 .map(ResponseEntity::ok));
     }
 
+    @PreAuthorize("hasRole('MANAGER')")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskImportResult> importTasks(@RequestBody Flux<String> lines,
+                                              @AuthenticationPrincipal Mono<AppUserPrincipal> principal) {
+        return principal.flatMapMany(p -> taskImportService.importTasks(lines, p.getUserId()));
+    }
+
     @PreAuthorize("hasRole('MANAGER')")
     @PostMapping("/{id}")
-    public Mono<ResponseEntity<TaskResponse>> updateTask(@PathVariable String id, @RequestBody UpsertTaskRequest request) {
-        return taskService.update(id, taskMapper.requestToEntity(request))
-                .map(taskMapper::entityToResponse)
-                .map(ResponseEntity::ok)
+    public Mono<ResponseEntity<TaskResponse>> updateTask(@PathVariable String id, @RequestBody UpsertTaskRequest request,
+                                                         @RequestHeader HttpHeaders headers) {
+        MediaType bodyType = BodyMediaTypes.select(headers.getAccept());
+        return taskService.update(id, taskMapper.requestToEntity(request), headers.getIfMatch())
+                .map(task -> ResponseEntity.ok()
+                        .contentType(bodyType)
+                        .eTag(taskService.entityTag(task, TaskView.FULL, bodyType))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(taskMapper.entityToResponse(task)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -61,11 +200,34 @@ public class TaskController {
 
     @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
     @PostMapping("/{id}/observe")
-    public Mono<ResponseEntity<TaskResponse>> addObserver(@PathVariable String id,
-                                                          @AuthenticationPrincipal Mono<AppUserPrincipal> principal) {
-        return principal.flatMap(p -> taskService.addObserver(id, p.getUserId())
-                .map(taskMapper::entityToResponse)
-                .map(ResponseEntity::ok)
-                .defaultIfEmpty(ResponseEntity.notFound().build()));
+    public Mono<ResponseEntity<?>> addObserver(@PathVariable String id,
+                                               @RequestParam(defaultValue = "false") boolean hydrate,
+                                               @AuthenticationPrincipal Mono<AppUserPrincipal> principal) {
+        return principal.flatMap(p -> hydrate
+                ? toTaskResponse(taskService.addObserverAndGet(id, p.getUserId()))
+                : toObserverResponse(taskService.addObserver(id, p.getUserId()), id, p.getUserId(), true));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
+    @DeleteMapping("/{id}/observe")
+    public Mono<ResponseEntity<?>> removeObserver(@PathVariable String id,
+                                                  @RequestParam(defaultValue = "false") boolean hydrate,
+                                                  @AuthenticationPrincipal Mono<AppUserPrincipal> principal) {
+        return principal.flatMap(p -> hydrate
+                ? toTaskResponse(taskService.removeObserverAndGet(id, p.getUserId()))
+                : toObserverResponse(taskService.removeObserver(id, p.getUserId()), id, p.getUserId(), false));
+    }
+
+    private Mono<ResponseEntity<?>> toTaskResponse(Mono<TaskEntity> task) {
+        return task.map(taskMapper::entityToResponse)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private Mono<ResponseEntity<?>> toObserverResponse(Mono<Boolean> matched, String taskId, String observerId,
+                                                       boolean observing) {
+        return matched.filter(Boolean::booleanValue)
+                .<ResponseEntity<?>>map(found -> ResponseEntity.ok(new ObserverResponse(taskId, observerId, observing)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 }
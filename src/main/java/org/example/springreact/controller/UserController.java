@@ -4,13 +4,24 @@ import lombok.RequiredArgsConstructor;
 import org.example.springreact.dto.UpsertUserRequest;
 import org.example.springreact.dto.UserResponse;
 import org.example.springreact.mapper.UserMapper;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.PageCursor;
 import org.example.springreact.service.UserService;
+import org.example.springreact.utils.BodyMediaTypes;
+import org.example.springreact.utils.ETags;
+import org.example.springreact.utils.StreamingMediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -21,16 +32,75 @@ public class UserController {
 
     @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
     @GetMapping
-    public Flux<UserResponse> getAllUsers() {
-        return userService.findAll().map(userMapper::entityToResponse);
+    public Mono<ResponseEntity<Flux<UserResponse>>> getAllUsers(@RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) String after,
+                                                               @RequestParam(defaultValue = "false") boolean unpaged,
+                                                               @RequestHeader HttpHeaders headers,
+                                                               ServerHttpRequest request) {
+        Optional<MediaType> streamingType = StreamingMediaTypes.select(headers.getAccept());
+        if (streamingType.isPresent()) {
+            return Mono.just(ResponseEntity.ok()
+                    .contentType(streamingType.get())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(userService.findAll().map(userMapper::entityToResponse)));
+        }
+        PageCursor cursor = PageCursor.decode(after);
+        MediaType bodyType = BodyMediaTypes.select(headers.getAccept());
+        if (unpaged) {
+            return userService.findCollectionTag(bodyType + "?" + request.getURI().getRawQuery())
+                    .map(etag -> {
+                        if (ETags.matches(headers.getIfNoneMatch(), etag)) {
+                            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                    .eTag(etag)
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .<Flux<UserResponse>>build();
+                        }
+                        return ResponseEntity.ok()
+                                .contentType(bodyType)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .body(userService.findAll().map(userMapper::entityToResponse));
+                    });
+        }
+        return userService.findPage(cursor, limit)
+                .map(page -> {
+                    String etag = userService.pageTag(page, bodyType);
+                    if (ETags.matches(headers.getIfNoneMatch(), etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .<Flux<UserResponse>>build();
+                    }
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .contentType(bodyType)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT);
+                    if (page.getNextCursor() != null) {
+                        response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+                    }
+                    return response.body(Flux.fromIterable(page.map(userMapper::entityToResponse).getContent()));
+                });
     }
 
     @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<UserResponse>> getById(@PathVariable String id) {
+    public Mono<ResponseEntity<UserResponse>> getById(@PathVariable String id, @RequestHeader HttpHeaders headers) {
+        MediaType bodyType = BodyMediaTypes.select(headers.getAccept());
         return userService.findById(id)
-                .map(userMapper::entityToResponse)
-                .map(ResponseEntity::ok)
+                .map(user -> {
+                    String etag = userService.entityTag(user, bodyType);
+                    if (ETags.matches(headers.getIfNoneMatch(), etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .<UserResponse>build();
+                    }
+                    return ResponseEntity.ok()
+                            .contentType(bodyType)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .body(userMapper.entityToResponse(user));
+                })
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -43,10 +113,15 @@ public class UserController {
 
     @PreAuthorize("hasAnyRole('USER', 'MANAGER')")
     @PutMapping("/{id}")
-    public Mono<ResponseEntity<UserResponse>> updateUser(@PathVariable String id, @RequestBody UpsertUserRequest request) {
-        return userService.update(id, userMapper.requestToEntity(request))
-                .map(userMapper::entityToResponse)
-                .map(ResponseEntity::ok)
+    public Mono<ResponseEntity<UserResponse>> updateUser(@PathVariable String id, @RequestBody UpsertUserRequest request,
+                                                         @RequestHeader HttpHeaders headers) {
+        MediaType bodyType = BodyMediaTypes.select(headers.getAccept());
+        return userService.update(id, userMapper.requestToEntity(request), headers.getIfMatch())
+                .map(user -> ResponseEntity.ok()
+                        .contentType(bodyType)
+                        .eTag(userService.entityTag(user, bodyType))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(userMapper.entityToResponse(user)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,14 @@
+package org.example.springreact.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ObserverResponse {
+    private String taskId;
+    private String observerId;
+    private boolean observing;
+}
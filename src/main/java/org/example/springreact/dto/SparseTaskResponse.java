@@ -0,0 +1,7 @@
+package org.example.springreact.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseTaskResponse extends TaskResponse {
+}
@@ -0,0 +1,16 @@
+package org.example.springreact.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springreact.model.TaskChangeType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeEvent {
+    private String resumeToken;
+    private TaskChangeType type;
+    private String taskId;
+    private TaskResponse task;
+}
@@ -0,0 +1,16 @@
+package org.example.springreact.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springreact.model.TaskImportStatus;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResult {
+    private long index;
+    private String taskId;
+    private TaskImportStatus status;
+    private String error;
+}
@@ -1,5 +1,6 @@
 package org.example.springreact.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import org.example.springreact.model.TaskStatus;
 
@@ -14,6 +15,9 @@ public class TaskResponse {
     private Instant createdAt;
     private Instant updatedAt;
     private TaskStatus status;
+    // only text search fills the score
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Float score;
 
     private UserResponse author;
     private UserResponse assignee;
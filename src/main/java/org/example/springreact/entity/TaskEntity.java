@@ -6,7 +6,13 @@ import lombok.NoArgsConstructor;
 import org.example.springreact.model.TaskStatus;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.Instant;
 import java.util.Set;
@@ -15,17 +21,30 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_updatedAt", def = "{'status': 1, 'updatedAt': -1}")
+})
 public class TaskEntity {
     @Id
     private String id;
+    @TextIndexed(weight = 2)
     private String name;
+    @TextIndexed
     private String description;
     private Instant createdAt;
     private Instant updatedAt;
     private TaskStatus status;
+    @Indexed
     private String authorId;
+    @Indexed
     private String assigneeId;
+    @Indexed
     private Set<String> observerIds;
+    @Version
+    private Long version;
+    @TextScore
+    private Float score;
 
     @ReadOnlyProperty
     private UserEntity author;
@@ -5,9 +5,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.springreact.model.RoleType;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,12 +19,18 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "users")
+@CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}")
 public class UserEntity {
     @Id
     private String id;
+    @Indexed(unique = true)
     private String username;
     private String email;
     private String password;
     @Field("roles")
     private Set<RoleType> roles = new HashSet<>();
+    private Instant createdAt;
+    private Instant updatedAt;
+    @Version
+    private Long version;
 }
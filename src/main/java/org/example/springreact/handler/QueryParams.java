@@ -0,0 +1,52 @@
+package org.example.springreact.handler;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+@UtilityClass
+class QueryParams {
+    boolean flag(ServerRequest request, String name) {
+        return request.queryParam(name).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    Integer integer(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .map(value -> {
+                    try {
+                        return Integer.valueOf(value);
+                    } catch (NumberFormatException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name, e);
+                    }
+                })
+                .orElse(null);
+    }
+
+    <E extends Enum<E>> E enumValue(ServerRequest request, String name, Class<E> type) {
+        return request.queryParam(name)
+                .map(value -> {
+                    try {
+                        return Enum.valueOf(type, value);
+                    } catch (IllegalArgumentException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name, e);
+                    }
+                })
+                .orElse(null);
+    }
+
+    Instant instant(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .map(value -> {
+                    try {
+                        return Instant.parse(value);
+                    } catch (DateTimeParseException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name, e);
+                    }
+                })
+                .orElse(null);
+    }
+}
@@ -2,20 +2,41 @@ package org.example.springreact.handler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.springreact.dto.ObserverResponse;
+import org.example.springreact.dto.TaskImportResult;
 import org.example.springreact.dto.TaskResponse;
 import org.example.springreact.dto.UpsertTaskRequest;
+import org.example.springreact.entity.TaskEntity;
 import org.example.springreact.entity.UserEntity;
 import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.PageCursor;
+import org.example.springreact.model.TaskFilter;
+import org.example.springreact.model.TaskSort;
+import org.example.springreact.model.TaskStatus;
+import org.example.springreact.model.TaskView;
+import org.example.springreact.service.TaskChangeFeed;
+import org.example.springreact.service.TaskImportService;
 import org.example.springreact.service.TaskService;
+import org.example.springreact.service.UserLookupMemo;
 import org.example.springreact.service.UserService;
+import org.example.springreact.utils.BodyMediaTypes;
+import org.example.springreact.utils.ETags;
+import org.example.springreact.utils.StreamingMediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Component
 @Slf4j
@@ -24,19 +45,102 @@ public class TaskHandler {
     private final TaskService taskService;
     private final TaskMapper taskMapper;
     private final UserService userService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskImportService taskImportService;
 
     public Mono<ServerResponse> getAll(ServerRequest request) {
-        Flux<TaskResponse> tasks = taskService.findAll().map(taskMapper::entityToResponse);
+        TaskFilter filter = new TaskFilter(
+                QueryParams.enumValue(request, "status", TaskStatus.class),
+                request.queryParam("assigneeId").orElse(null),
+                request.queryParam("authorId").orElse(null),
+                request.queryParam("observerId").orElse(null),
+                QueryParams.instant(request, "updatedSince"));
+        TaskSort sort = TaskSort.parse(request.queryParam("sort").orElse(null));
+        TaskView view = view(request);
+        Flux<TaskResponse> tasks = UserLookupMemo.map(taskService.findAll(filter, sort, view),
+                (task, memo) -> taskMapper.entityToResponse(task, view, memo));
+        Optional<MediaType> streamingType = StreamingMediaTypes.select(request.headers().accept());
+        if (streamingType.isPresent()) {
+            return ServerResponse.ok()
+                    .contentType(streamingType.get())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(tasks, TaskResponse.class);
+        }
+        boolean unpaged = QueryParams.flag(request, "unpaged");
+        PageCursor after = PageCursor.decode(request.queryParam("after").orElse(null));
+        Integer limit = QueryParams.integer(request, "limit");
+        MediaType bodyType = BodyMediaTypes.select(request.headers().accept());
+        List<String> ifNoneMatch = request.headers().asHttpHeaders().getIfNoneMatch();
+        if (unpaged) {
+            return taskService.findCollectionTag(filter, bodyType + "?" + request.uri().getRawQuery())
+                    .flatMap(etag -> {
+                        if (ETags.matches(ifNoneMatch, etag)) {
+                            return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                        }
+                        return ServerResponse.ok()
+                                .contentType(bodyType)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .body(tasks, TaskResponse.class);
+                    });
+        }
+        return UserLookupMemo.map(taskService.findPage(filter, sort, view, after, limit), (page, memo) -> {
+                    String etag = taskService.pageTag(page, view, bodyType);
+                    if (ETags.matches(ifNoneMatch, etag)) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                    }
+                    return ServerResponse.ok()
+                            .contentType(bodyType)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .headers(headers -> {
+                                if (page.getNextCursor() != null) {
+                                    headers.set(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+                                }
+                            })
+                            .bodyValue(page.map(task -> taskMapper.entityToResponse(task, view, memo)).getContent());
+                })
+                .flatMap(Function.identity());
+    }
+
+    public Mono<ServerResponse> search(ServerRequest request) {
+        TaskFilter filter = new TaskFilter(
+                QueryParams.enumValue(request, "status", TaskStatus.class),
+                request.queryParam("assigneeId").orElse(null),
+                null, null, null);
+        Flux<TaskResponse> tasks = UserLookupMemo.map(taskService.search(request.queryParam("q").orElse(null), filter,
+                QueryParams.integer(request, "page"), QueryParams.integer(request, "limit")), taskMapper::entityToResponse);
         return ServerResponse.ok()
-                .contentType(MediaType.APPLICATION_JSON)
+                .contentType(BodyMediaTypes.select(request.headers().accept()))
+                .varyBy(HttpHeaders.ACCEPT)
                 .body(tasks, TaskResponse.class);
     }
 
+    public Mono<ServerResponse> getChanges(ServerRequest request) {
+        String resumeToken = request.queryParam("resumeAfter")
+                .orElse(request.headers().firstHeader("Last-Event-ID"));
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromServerSentEvents(taskChangeFeed.events(resumeToken)));
+    }
+
     public Mono<ServerResponse> getById(ServerRequest request) {
         String id = request.pathVariable("id");
-        Mono<TaskResponse> task = taskService.findById(id).map(taskMapper::entityToResponse);
+        TaskView view = view(request);
+        MediaType bodyType = BodyMediaTypes.select(request.headers().accept());
         Mono<ServerResponse> notFound = ServerResponse.notFound().build();
-        return task.flatMap(t -> ServerResponse.ok().bodyValue(t))
+        return taskService.findEntityTag(id, view, bodyType)
+                .flatMap(etag -> {
+                    if (ETags.matches(request.headers().asHttpHeaders().getIfNoneMatch(), etag)) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                    }
+                    return taskService.findById(id, view)
+                            .flatMap(task -> ServerResponse.ok()
+                                    .contentType(bodyType)
+                                    .eTag(taskService.entityTag(task, view, bodyType))
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .bodyValue(taskMapper.entityToResponse(task, view)));
+                })
                 .switchIfEmpty(notFound);
     }
 
@@ -50,13 +154,27 @@ public class TaskHandler {
                         .flatMap(response -> ServerResponse.ok().bodyValue(response)));
     }
 
+    public Mono<ServerResponse> importTasks(ServerRequest request) {
+        return request.principal()
+                .flatMap(this::processPrincipal)
+                .flatMap(user -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(taskImportService.importTasks(request.bodyToFlux(String.class), user.getId()),
+                                TaskImportResult.class));
+    }
+
     public Mono<ServerResponse> update(ServerRequest request) {
         String id = request.pathVariable("id");
         Mono<UpsertTaskRequest> task = request.bodyToMono(UpsertTaskRequest.class);
-        Mono<TaskResponse> updateTask = task.flatMap(req -> taskService.update(id, taskMapper.requestToEntity(req)))
-                .map(taskMapper::entityToResponse);
+        List<String> ifMatch = request.headers().asHttpHeaders().getIfMatch();
+        Mono<TaskEntity> updateTask = task.flatMap(req -> taskService.update(id, taskMapper.requestToEntity(req), ifMatch));
+        MediaType bodyType = BodyMediaTypes.select(request.headers().accept());
         Mono<ServerResponse> notFound = ServerResponse.notFound().build();
-        return updateTask.flatMap(t -> ServerResponse.ok().bodyValue(t))
+        return updateTask.flatMap(t -> ServerResponse.ok()
+                        .contentType(bodyType)
+                        .eTag(taskService.entityTag(t, TaskView.FULL, bodyType))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .bodyValue(taskMapper.entityToResponse(t)))
                 .switchIfEmpty(notFound);
     }
 
@@ -67,16 +185,43 @@ public class TaskHandler {
 
     public Mono<ServerResponse> addObserver(ServerRequest request) {
         String id = request.pathVariable("id");
-        Mono<ServerResponse> notFound = ServerResponse.notFound().build();
+        boolean hydrate = QueryParams.flag(request, "hydrate");
+
+        return request.principal()
+                .flatMap(this::processPrincipal)
+                .flatMap(user -> hydrate
+                        ? toTaskResponse(taskService.addObserverAndGet(id, user.getId()))
+                        : toObserverResponse(taskService.addObserver(id, user.getId()), id, user.getId(), true));
+    }
+
+    public Mono<ServerResponse> removeObserver(ServerRequest request) {
+        String id = request.pathVariable("id");
+        boolean hydrate = QueryParams.flag(request, "hydrate");
 
         return request.principal()
                 .flatMap(this::processPrincipal)
-                .flatMap(user -> {
-                    Mono<TaskResponse> task = taskService.addObserver(id, user.getId())
-                            .map(taskMapper::entityToResponse);
-                    return task.flatMap(t -> ServerResponse.ok().bodyValue(t))
-                            .switchIfEmpty(notFound);
-                });
+                .flatMap(user -> hydrate
+                        ? toTaskResponse(taskService.removeObserverAndGet(id, user.getId()))
+                        : toObserverResponse(taskService.removeObserver(id, user.getId()), id, user.getId(), false));
+    }
+
+    private Mono<ServerResponse> toTaskResponse(Mono<TaskEntity> task) {
+        Mono<ServerResponse> notFound = ServerResponse.notFound().build();
+        return task.map(taskMapper::entityToResponse)
+                .flatMap(t -> ServerResponse.ok().bodyValue(t))
+                .switchIfEmpty(notFound);
+    }
+
+    private Mono<ServerResponse> toObserverResponse(Mono<Boolean> matched, String taskId, String observerId,
+                                                    boolean observing) {
+        Mono<ServerResponse> notFound = ServerResponse.notFound().build();
+        return matched.filter(Boolean::booleanValue)
+                .flatMap(found -> ServerResponse.ok().bodyValue(new ObserverResponse(taskId, observerId, observing)))
+                .switchIfEmpty(notFound);
+    }
+
+    private static TaskView view(ServerRequest request) {
+        return TaskView.parse(request.queryParam("fields").orElse(null), request.queryParam("expand").orElse(null));
     }
 
     private Mono<UserEntity> processPrincipal(Principal principal) {
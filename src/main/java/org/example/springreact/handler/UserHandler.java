@@ -4,8 +4,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.springreact.dto.UpsertUserRequest;
 import org.example.springreact.dto.UserResponse;
+import org.example.springreact.entity.UserEntity;
 import org.example.springreact.mapper.UserMapper;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.PageCursor;
 import org.example.springreact.service.UserService;
+import org.example.springreact.utils.BodyMediaTypes;
+import org.example.springreact.utils.ETags;
+import org.example.springreact.utils.StreamingMediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -13,6 +21,9 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -21,17 +32,68 @@ public class UserHandler {
     private final UserMapper userMapper;
 
     public Mono<ServerResponse> getAll(ServerRequest request) {
-        Flux<UserResponse> users = userService.findAll().map(userMapper::entityToResponse);
-        return ServerResponse.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(users, UserResponse.class);
+        Optional<MediaType> streamingType = StreamingMediaTypes.select(request.headers().accept());
+        if (streamingType.isPresent()) {
+            Flux<UserResponse> users = userService.findAll().map(userMapper::entityToResponse);
+            return ServerResponse.ok()
+                    .contentType(streamingType.get())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(users, UserResponse.class);
+        }
+        boolean unpaged = QueryParams.flag(request, "unpaged");
+        PageCursor after = PageCursor.decode(request.queryParam("after").orElse(null));
+        Integer limit = QueryParams.integer(request, "limit");
+        MediaType bodyType = BodyMediaTypes.select(request.headers().accept());
+        List<String> ifNoneMatch = request.headers().asHttpHeaders().getIfNoneMatch();
+        if (unpaged) {
+            return userService.findCollectionTag(bodyType + "?" + request.uri().getRawQuery())
+                    .flatMap(etag -> {
+                        if (ETags.matches(ifNoneMatch, etag)) {
+                            return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                        }
+                        Flux<UserResponse> users = userService.findAll().map(userMapper::entityToResponse);
+                        return ServerResponse.ok()
+                                .contentType(bodyType)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .body(users, UserResponse.class);
+                    });
+        }
+        return userService.findPage(after, limit)
+                .flatMap(page -> {
+                    String etag = userService.pageTag(page, bodyType);
+                    if (ETags.matches(ifNoneMatch, etag)) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                    }
+                    return ServerResponse.ok()
+                            .contentType(bodyType)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .headers(headers -> {
+                                if (page.getNextCursor() != null) {
+                                    headers.set(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+                                }
+                            })
+                            .bodyValue(page.map(userMapper::entityToResponse).getContent());
+                });
     }
 
     public Mono<ServerResponse> getById(ServerRequest request) {
         String id = request.pathVariable("id");
-        Mono<UserResponse> user = userService.findById(id).map(userMapper::entityToResponse);
+        MediaType bodyType = BodyMediaTypes.select(request.headers().accept());
         Mono<ServerResponse> notFound = ServerResponse.notFound().build();
-        return user.flatMap(u -> ServerResponse.ok().bodyValue(u))
+        return userService.findById(id)
+                .flatMap(user -> {
+                    String etag = userService.entityTag(user, bodyType);
+                    if (ETags.matches(request.headers().asHttpHeaders().getIfNoneMatch(), etag)) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                    }
+                    return ServerResponse.ok()
+                            .contentType(bodyType)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .bodyValue(userMapper.entityToResponse(user));
+                })
                 .switchIfEmpty(notFound);
     }
 
@@ -48,10 +110,15 @@ public class UserHandler {
     public Mono<ServerResponse> update(ServerRequest request) {
         String id = request.pathVariable("id");
         Mono<UpsertUserRequest> user = request.bodyToMono(UpsertUserRequest.class);
-        Mono<UserResponse> updatedUser = user.flatMap(req -> userService.update(id, userMapper.requestToEntity(req)))
-                .map(userMapper::entityToResponse);
+        List<String> ifMatch = request.headers().asHttpHeaders().getIfMatch();
+        Mono<UserEntity> updatedUser = user.flatMap(req -> userService.update(id, userMapper.requestToEntity(req), ifMatch));
+        MediaType bodyType = BodyMediaTypes.select(request.headers().accept());
         Mono<ServerResponse> notFound = ServerResponse.notFound().build();
-        return updatedUser.flatMap(u -> ServerResponse.ok().bodyValue(u))
+        return updatedUser.flatMap(u -> ServerResponse.ok()
+                        .contentType(bodyType)
+                        .eTag(userService.entityTag(u, bodyType))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .bodyValue(userMapper.entityToResponse(u)))
                 .switchIfEmpty(notFound);
     }
 
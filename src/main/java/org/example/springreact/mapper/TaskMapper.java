@@ -1,15 +1,67 @@
 package org.example.springreact.mapper;
 
+import org.example.springreact.dto.SparseTaskResponse;
 import org.example.springreact.dto.TaskResponse;
 import org.example.springreact.dto.UpsertTaskRequest;
+import org.example.springreact.dto.UserResponse;
 import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.TaskView;
+import org.example.springreact.service.UserLookupMemo;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface TaskMapper {
 
     TaskEntity requestToEntity(UpsertTaskRequest request);
 
-    TaskResponse entityToResponse(TaskEntity entity);
+    default TaskResponse entityToResponse(TaskEntity entity) {
+        return entityToResponse(entity, new UserLookupMemo());
+    }
+
+    @Mapping(target = "author", qualifiedByName = "memoizedUser")
+    @Mapping(target = "assignee", qualifiedByName = "memoizedUser")
+    @Mapping(target = "observers", qualifiedByName = "memoizedUsers")
+    TaskResponse entityToResponse(TaskEntity entity, @Context UserLookupMemo memo);
+
+    default TaskResponse entityToResponse(TaskEntity entity, TaskView view) {
+        return entityToResponse(entity, view, new UserLookupMemo());
+    }
+
+    // sparse views leave unrequested fields null, so they are written without them
+    default TaskResponse entityToResponse(TaskEntity entity, TaskView view, UserLookupMemo memo) {
+        return view.isFull() ? entityToResponse(entity, memo) : entityToSparseResponse(entity, memo);
+    }
+
+    @Mapping(target = "author", qualifiedByName = "memoizedUser")
+    @Mapping(target = "assignee", qualifiedByName = "memoizedUser")
+    @Mapping(target = "observers", qualifiedByName = "memoizedUsers")
+    SparseTaskResponse entityToSparseResponse(TaskEntity entity, @Context UserLookupMemo memo);
+
+    @Named("user")
+    UserResponse userToResponse(UserEntity user);
+
+    @Named("memoizedUser")
+    default UserResponse memoizedUser(UserEntity user, @Context UserLookupMemo memo) {
+        return user == null ? null : memo.response(user, this::userToResponse);
+    }
+
+    @Named("memoizedUsers")
+    default Set<UserResponse> memoizedUsers(Set<UserEntity> users, @Context UserLookupMemo memo) {
+        if (users == null) {
+            return null;
+        }
+        Set<UserResponse> responses = new HashSet<>(users.size() * 2);
+        for (UserEntity user : users) {
+            responses.add(memoizedUser(user, memo));
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,62 @@
+package org.example.springreact.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class AppMetrics {
+    public static final String HYDRATION = "app.hydration";
+    public static final String MAPPING = "app.mapping";
+    public static final String PASSWORD_HASHING = "app.password.hashing";
+    public static final String PASSWORD_HASHING_QUEUE_WAIT = "app.password.hashing.queue.wait";
+    public static final String VERSION_CONFLICTS = "app.version.conflicts";
+    public static final String SINGLE_FLIGHT_COALESCED = "app.single.flight.coalesced";
+    public static final String USER_CACHE_REQUESTS = "app.user.cache.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public <T> Mono<T> time(Mono<T> source, String name, String... tags) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return source.doFinally(signal -> sample.stop(timer(name, signal, tags)));
+        });
+    }
+
+    public <T> Flux<T> time(Flux<T> source, String name, String... tags) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return source.doFinally(signal -> sample.stop(timer(name, signal, tags)));
+        });
+    }
+
+    private Timer timer(String name, SignalType signal, String... tags) {
+        TimerKey key = new TimerKey(name, List.of(tags), outcome(signal));
+        return timers.computeIfAbsent(key, k -> Timer.builder(k.name())
+                .tags(tags)
+                .tag("outcome", k.outcome())
+                .register(meterRegistry));
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "unknown";
+        };
+    }
+
+    private record TimerKey(String name, List<String> tags, String outcome) {
+    }
+}
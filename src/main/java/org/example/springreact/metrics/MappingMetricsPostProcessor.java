@@ -0,0 +1,60 @@
+package org.example.springreact.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.mapper.UserMapper;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class MappingMetricsPostProcessor implements BeanPostProcessor {
+    private static final List<Class<?>> MAPPERS = List.of(TaskMapper.class, UserMapper.class);
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public MappingMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = SingletonSupplier.of(meterRegistry::getObject);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Class<?> mapper : MAPPERS) {
+            if (mapper.isInstance(bean)) {
+                return timed(bean, mapper);
+            }
+        }
+        return bean;
+    }
+
+    private Object timed(Object bean, Class<?> mapper) {
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addInterface(mapper);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timer(mapper, invocation.getMethod()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private Timer timer(Class<?> mapper, Method method) {
+        return timers.computeIfAbsent(method, m -> Timer.builder(AppMetrics.MAPPING)
+                .tag("mapper", mapper.getSimpleName())
+                .tag("method", m.getName())
+                .register(meterRegistry.get()));
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.springreact.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MongoCommandMetricsListener implements CommandListener {
+    public static final String COMMANDS = "mongodb.commands";
+    public static final String DOCUMENTS = "mongodb.command.documents";
+
+    private static final String UNKNOWN_COLLECTION = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, String> collectionsByRequest = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> documentSummaries = new ConcurrentHashMap<>();
+
+    public MongoCommandMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String collection = collectionName(event.getCommand(), event.getCommandName());
+        if (collection != null) {
+            collectionsByRequest.put(event.getRequestId(), collection);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = collectionsByRequest.getOrDefault(event.getRequestId(), UNKNOWN_COLLECTION);
+        collectionsByRequest.remove(event.getRequestId());
+        record(event.getCommandName(), collection, "SUCCESS", event.getElapsedTime(TimeUnit.NANOSECONDS));
+
+        long documents = documentCount(event.getResponse());
+        if (documents >= 0) {
+            documentSummaries.computeIfAbsent(new MeterKey(event.getCommandName(), collection, null),
+                            key -> DistributionSummary.builder(DOCUMENTS)
+                                    .baseUnit("documents")
+                                    .tag("command", key.command())
+                                    .tag("collection", key.collection())
+                                    .register(meterRegistry))
+                    .record(documents);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String collection = collectionsByRequest.getOrDefault(event.getRequestId(), UNKNOWN_COLLECTION);
+        collectionsByRequest.remove(event.getRequestId());
+        record(event.getCommandName(), collection, "FAILED", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void record(String command, String collection, String status, long elapsedNanos) {
+        timers.computeIfAbsent(new MeterKey(command, collection, status), key -> Timer.builder(COMMANDS)
+                        .tag("command", key.command())
+                        .tag("collection", key.collection())
+                        .tag("status", key.status())
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String collectionName(BsonDocument command, String commandName) {
+        BsonValue value = "getMore".equals(commandName)
+                ? command.get("collection")
+                : command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    private static long documentCount(BsonDocument response) {
+        if (response == null) {
+            return -1;
+        }
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonDocument cursorDocument = cursor.asDocument();
+            BsonValue batch = cursorDocument.containsKey("firstBatch")
+                    ? cursorDocument.get("firstBatch")
+                    : cursorDocument.get("nextBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : -1;
+        }
+        BsonValue affected = response.get("n");
+        if (affected != null && affected.isNumber()) {
+            return affected.asNumber().longValue();
+        }
+        BsonValue value = response.get("value");
+        if (value != null) {
+            return value.isNull() ? 0 : 1;
+        }
+        return -1;
+    }
+
+    private record MeterKey(String command, String collection, String status) {
+    }
+}
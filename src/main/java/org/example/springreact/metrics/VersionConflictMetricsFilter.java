@@ -0,0 +1,43 @@
+package org.example.springreact.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class VersionConflictMetricsFilter implements WebFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange)
+                .doOnError(VersionConflictMetricsFilter::isVersionConflict, error -> record(exchange));
+    }
+
+    private void record(ServerWebExchange exchange) {
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Counter.builder(AppMetrics.VERSION_CONFLICTS)
+                .tag("method", exchange.getRequest().getMethod().name())
+                .tag("uri", pattern != null ? pattern.getPatternString() : "UNKNOWN")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static boolean isVersionConflict(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.springreact.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class CollectionVersion {
+    public static final CollectionVersion EMPTY = new CollectionVersion(0, null);
+
+    long count;
+    Instant lastUpdatedAt;
+}
@@ -0,0 +1,27 @@
+package org.example.springreact.model;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Value
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    List<T> content;
+    String nextCursor;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor);
+    }
+
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, PageCursor> cursorExtractor) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, limit);
+        return new CursorPage<>(content, cursorExtractor.apply(content.get(limit - 1)).encode());
+    }
+}
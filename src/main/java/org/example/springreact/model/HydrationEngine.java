@@ -0,0 +1,6 @@
+package org.example.springreact.model;
+
+public enum HydrationEngine {
+    APPLICATION,
+    LOOKUP
+}
@@ -0,0 +1,40 @@
+package org.example.springreact.model;
+
+import lombok.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+@Value
+public class PageCursor {
+    private static final char SEPARATOR = '|';
+
+    Instant key;
+    String id;
+
+    public String encode() {
+        String value = (key == null ? "" : String.valueOf(key.toEpochMilli())) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0 || separator == value.length() - 1) {
+                throw new IllegalArgumentException("Missing id");
+            }
+            String key = value.substring(0, separator);
+            return new PageCursor(key.isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(key)),
+                    value.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.springreact.model;
+
+public enum TaskChangeType {
+    INSERT,
+    UPDATE,
+    REPLACE,
+    DELETE
+}
@@ -0,0 +1,16 @@
+package org.example.springreact.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class TaskFilter {
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, null, null);
+
+    TaskStatus status;
+    String assigneeId;
+    String authorId;
+    String observerId;
+    Instant updatedSince;
+}
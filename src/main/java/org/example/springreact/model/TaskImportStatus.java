@@ -0,0 +1,7 @@
+package org.example.springreact.model;
+
+public enum TaskImportStatus {
+    CREATED,
+    REJECTED,
+    FAILED
+}
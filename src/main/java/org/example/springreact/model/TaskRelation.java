@@ -0,0 +1,24 @@
+package org.example.springreact.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskRelation {
+    AUTHOR("author", "authorId"),
+    ASSIGNEE("assignee", "assigneeId"),
+    OBSERVERS("observers", "observerIds");
+
+    private final String name;
+    private final String idField;
+
+    public static TaskRelation fromName(String name) {
+        for (TaskRelation relation : values()) {
+            if (relation.name.equals(name)) {
+                return relation;
+            }
+        }
+        return null;
+    }
+}
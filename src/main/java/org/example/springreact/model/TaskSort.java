@@ -0,0 +1,44 @@
+package org.example.springreact.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.entity.TaskEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskSort {
+    CREATED_AT("createdAt", Sort.Direction.ASC, TaskEntity::getCreatedAt),
+    CREATED_AT_DESC("-createdAt", Sort.Direction.DESC, TaskEntity::getCreatedAt),
+    UPDATED_AT("updatedAt", Sort.Direction.ASC, TaskEntity::getUpdatedAt),
+    UPDATED_AT_DESC("-updatedAt", Sort.Direction.DESC, TaskEntity::getUpdatedAt);
+
+    private final String value;
+    private final Sort.Direction direction;
+    private final Function<TaskEntity, Instant> keyExtractor;
+
+    public String getField() {
+        return value.startsWith("-") ? value.substring(1) : value;
+    }
+
+    public PageCursor cursorOf(TaskEntity task) {
+        return new PageCursor(keyExtractor.apply(task), task.getId());
+    }
+
+    public static TaskSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT;
+        }
+        for (TaskSort sort : values()) {
+            if (sort.value.equals(value)) {
+                return sort;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort");
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.springreact.model;
+
+import lombok.Value;
+import org.example.springreact.entity.TaskEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Value
+public class TaskView {
+    public static final TaskView FULL = new TaskView(null, EnumSet.allOf(TaskRelation.class));
+
+    private static final Set<String> SCALAR_FIELDS = Set.of("id", "name", "description", "createdAt", "updatedAt", "status");
+
+    Set<String> fields;
+    Set<TaskRelation> expand;
+
+    public boolean isFull() {
+        return fields == null && expand.size() == TaskRelation.values().length;
+    }
+
+    public boolean expands(TaskRelation relation) {
+        return expand.contains(relation);
+    }
+
+    public Set<String> documentFields(TaskSort sort) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> documentFields = new LinkedHashSet<>(fields);
+        documentFields.remove("id");
+        documentFields.add("version");
+        documentFields.add(sort.getField());
+        for (TaskRelation relation : expand) {
+            documentFields.add(relation.getIdField());
+        }
+        return documentFields;
+    }
+
+    public TaskEntity trim(TaskEntity task) {
+        if (fields != null) {
+            if (!fields.contains("createdAt")) {
+                task.setCreatedAt(null);
+            }
+            if (!fields.contains("updatedAt")) {
+                task.setUpdatedAt(null);
+            }
+        }
+        return task;
+    }
+
+    public static TaskView parse(String fields, String expand) {
+        if (fields == null && expand == null) {
+            return FULL;
+        }
+        Set<TaskRelation> relations = relations(expand);
+        if (fields == null) {
+            return new TaskView(null, relations);
+        }
+        Set<String> scalarFields = new LinkedHashSet<>();
+        for (String field : split(fields)) {
+            TaskRelation relation = TaskRelation.fromName(field);
+            if (relation != null) {
+                relations.add(relation);
+            } else if (SCALAR_FIELDS.contains(field)) {
+                scalarFields.add(field);
+            } else {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid field " + field);
+            }
+        }
+        return new TaskView(Collections.unmodifiableSet(scalarFields), relations);
+    }
+
+    private static Set<TaskRelation> relations(String expand) {
+        Set<TaskRelation> relations = EnumSet.noneOf(TaskRelation.class);
+        if (expand == null) {
+            return relations;
+        }
+        for (String name : split(expand)) {
+            TaskRelation relation = TaskRelation.fromName(name);
+            if (relation == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid expand " + name);
+            }
+            relations.add(relation);
+        }
+        return relations;
+    }
+
+    private static String[] split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.springreact.repository;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+@UtilityClass
+public class CollectionVersions {
+    public Aggregation aggregation(Criteria criteria) {
+        return Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.group()
+                        .count().as("count")
+                        .max("updatedAt").as("lastUpdatedAt"));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.springreact.repository;
+
+import lombok.experimental.UtilityClass;
+import org.example.springreact.model.PageCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@UtilityClass
+public class KeysetQueries {
+    public static final String KEY_FIELD = "createdAt";
+    public static final String ID_FIELD = "_id";
+
+    public Query page(PageCursor after, int limit) {
+        return page(new Query(), after, limit, KEY_FIELD, Sort.Direction.ASC);
+    }
+
+    public Query page(Query query, PageCursor after, int limit, String keyField, Sort.Direction direction) {
+        query.with(Sort.by(new Sort.Order(direction, keyField), new Sort.Order(direction, ID_FIELD)))
+                .limit(limit);
+        if (after != null) {
+            query.addCriteria(after(after, keyField, direction.isAscending()));
+        }
+        return query;
+    }
+
+    public Criteria after(PageCursor cursor, String keyField, Sort.Direction direction) {
+        return after(cursor, keyField, direction.isAscending());
+    }
+
+    private Criteria after(PageCursor cursor, String keyField, boolean ascending) {
+        // documents without a key sort first ascending and last descending, so a null cursor key
+        // continues through them by id before (or instead of) the keyed documents
+        if (cursor.getKey() == null) {
+            Criteria sameKey = beyondId(Criteria.where(keyField).is(null), cursor.getId(), ascending);
+            return ascending
+                    ? new Criteria().orOperator(sameKey, Criteria.where(keyField).ne(null))
+                    : sameKey;
+        }
+        Criteria beyondKey = ascending
+                ? Criteria.where(keyField).gt(cursor.getKey())
+                : Criteria.where(keyField).lt(cursor.getKey());
+        Criteria sameKey = beyondId(Criteria.where(keyField).is(cursor.getKey()), cursor.getId(), ascending);
+        return ascending
+                ? new Criteria().orOperator(beyondKey, sameKey)
+                : new Criteria().orOperator(beyondKey, sameKey, Criteria.where(keyField).is(null));
+    }
+
+    private Criteria beyondId(Criteria criteria, String id, boolean ascending) {
+        return ascending ? criteria.and(ID_FIELD).gt(id) : criteria.and(ID_FIELD).lt(id);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.springreact.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class ReadRouting {
+    private static final String PREFER_SECONDARY = ReadRouting.class.getName() + ".PREFER_SECONDARY";
+
+    private final ReactiveMongoOperations primary;
+    private final ReactiveMongoOperations secondary;
+
+    public static ReadRouting primaryOnly(ReactiveMongoOperations primary) {
+        return new ReadRouting(primary, primary);
+    }
+
+    public static Context preferSecondary(Context context) {
+        return context.put(PREFER_SECONDARY, true);
+    }
+
+    public static Context preferPrimary(Context context) {
+        return context.delete(PREFER_SECONDARY);
+    }
+
+    public static boolean prefersSecondary(ContextView context) {
+        return context.getOrDefault(PREFER_SECONDARY, false);
+    }
+
+    public <T> Mono<T> read(Function<ReactiveMongoOperations, Mono<T>> query) {
+        return Mono.deferContextual(context -> query.apply(operations(context)));
+    }
+
+    public <T> Flux<T> readMany(Function<ReactiveMongoOperations, Flux<T>> query) {
+        return Flux.deferContextual(context -> query.apply(operations(context)));
+    }
+
+    private ReactiveMongoOperations operations(ContextView context) {
+        return prefersSecondary(context) ? secondary : primary;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.configuration.ReadRoutingProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class ReadRoutingFilter implements WebFilter {
+    private final List<PathPattern> routes;
+
+    public ReadRoutingFilter(ReadRoutingProperties properties) {
+        this.routes = properties.getRoutes().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        if (routes.stream().noneMatch(route -> route.matches(path))) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(ReadRouting::preferSecondary);
+    }
+}
@@ -5,5 +5,5 @@ import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TaskRepository extends ReactiveMongoRepository<TaskEntity, String> {
+public interface TaskRepository extends ReactiveMongoRepository<TaskEntity, String>, TaskRepositoryCustom {
 }
@@ -0,0 +1,47 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.model.CollectionVersion;
+import org.example.springreact.model.PageCursor;
+import org.example.springreact.model.TaskFilter;
+import org.example.springreact.model.TaskSort;
+import org.example.springreact.model.TaskView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TaskRepositoryCustom {
+    Mono<TaskEntity> findById(String id);
+
+    Flux<TaskEntity> findAllWithUsers(TaskFilter filter, TaskSort sort);
+
+    Flux<TaskEntity> findPageWithUsers(TaskFilter filter, TaskSort sort, PageCursor after, int limit);
+
+    Mono<TaskEntity> findByIdWithUsers(String id);
+
+    Mono<TaskEntity> findProjectedById(String id, TaskView view);
+
+    Mono<TaskEntity> findVersionById(String id);
+
+    Mono<CollectionVersion> collectionVersion(TaskFilter filter);
+
+    Flux<TaskEntity> findPage(TaskFilter filter, TaskSort sort, TaskView view, PageCursor after, int limit);
+
+    Flux<TaskEntity> streamAll(TaskFilter filter, TaskSort sort, TaskView view, int batchSize);
+
+    Flux<TaskEntity> search(String text, TaskFilter filter, long offset, int limit);
+
+    Mono<TaskEntity> updateNonNullFields(String id, TaskEntity patch);
+
+    Mono<Boolean> addObserver(String id, String observerId);
+
+    Mono<Boolean> removeObserver(String id, String observerId);
+
+    Mono<TaskEntity> addObserverAndGet(String id, String observerId);
+
+    Mono<TaskEntity> removeObserverAndGet(String id, String observerId);
+
+    Mono<Map<Integer, String>> insertUnordered(List<TaskEntity> tasks);
+}
@@ -0,0 +1,258 @@
+package org.example.springreact.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.model.CollectionVersion;
+import org.example.springreact.model.PageCursor;
+import org.example.springreact.model.TaskFilter;
+import org.example.springreact.model.TaskSort;
+import org.example.springreact.model.TaskView;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final String TASKS_COLLECTION = "tasks";
+    private static final String USERS_COLLECTION = "users";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    @Override
+    public Mono<TaskEntity> findById(String id) {
+        return readRouting.read(operations -> operations.findOne(byId(id), TaskEntity.class));
+    }
+
+    @Override
+    public Flux<TaskEntity> findAllWithUsers(TaskFilter filter, TaskSort sort) {
+        return aggregateWithUsers(criteria(filter), keysetSort(sort), 0);
+    }
+
+    @Override
+    public Flux<TaskEntity> findPageWithUsers(TaskFilter filter, TaskSort sort, PageCursor after, int limit) {
+        Criteria criteria = criteria(filter);
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria,
+                    KeysetQueries.after(after, sort.getField(), sort.getDirection()));
+        }
+        return aggregateWithUsers(criteria, keysetSort(sort), limit);
+    }
+
+    @Override
+    public Mono<TaskEntity> findByIdWithUsers(String id) {
+        return aggregateWithUsers(Criteria.where("_id").is(id), null, 0).next();
+    }
+
+    @Override
+    public Mono<TaskEntity> findProjectedById(String id, TaskView view) {
+        return readRouting.read(operations ->
+                operations.findOne(project(byId(id), view, TaskSort.CREATED_AT), TaskEntity.class));
+    }
+
+    @Override
+    public Mono<TaskEntity> findVersionById(String id) {
+        Query query = byId(id);
+        query.fields().include("version");
+        return readRouting.read(operations -> operations.findOne(query, TaskEntity.class));
+    }
+
+    @Override
+    public Mono<CollectionVersion> collectionVersion(TaskFilter filter) {
+        return readRouting.readMany(operations -> operations.aggregate(CollectionVersions.aggregation(criteria(filter)),
+                        TASKS_COLLECTION, CollectionVersion.class))
+                .next()
+                .defaultIfEmpty(CollectionVersion.EMPTY);
+    }
+
+    @Override
+    public Flux<TaskEntity> findPage(TaskFilter filter, TaskSort sort, TaskView view, PageCursor after, int limit) {
+        Query query = KeysetQueries.page(project(Query.query(criteria(filter)), view, sort),
+                after, limit, sort.getField(), sort.getDirection());
+        return readRouting.readMany(operations -> operations.find(query, TaskEntity.class));
+    }
+
+    @Override
+    public Flux<TaskEntity> streamAll(TaskFilter filter, TaskSort sort, TaskView view, int batchSize) {
+        Query query = project(Query.query(criteria(filter)), view, sort)
+                .with(Sort.by(new Sort.Order(sort.getDirection(), sort.getField()),
+                        new Sort.Order(sort.getDirection(), KeysetQueries.ID_FIELD)))
+                .cursorBatchSize(batchSize);
+        return readRouting.readMany(operations -> operations.find(query, TaskEntity.class))
+                .limitRate(batchSize);
+    }
+
+    @Override
+    public Flux<TaskEntity> search(String text, TaskFilter filter, long offset, int limit) {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .sortByScore()
+                .addCriteria(criteria(filter))
+                .with(Sort.by(KeysetQueries.ID_FIELD))
+                .skip(offset)
+                .limit(limit);
+        return readRouting.readMany(operations -> operations.find(query, TaskEntity.class));
+    }
+
+    @Override
+    public Mono<TaskEntity> updateNonNullFields(String id, TaskEntity patch) {
+        Update update = new Update().currentDate("updatedAt").inc("version", 1);
+        setIfNotNull(update, "name", patch.getName());
+        setIfNotNull(update, "description", patch.getDescription());
+        setIfNotNull(update, "status", patch.getStatus());
+        setIfNotNull(update, "assigneeId", patch.getAssigneeId());
+
+        Query query = byId(id);
+        if (patch.getVersion() == null) {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().returnNew(true), TaskEntity.class);
+        }
+        query.addCriteria(Criteria.where("version").is(patch.getVersion()));
+        return mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), TaskEntity.class)
+                .switchIfEmpty(Mono.defer(() -> mongoTemplate.exists(byId(id), TaskEntity.class)
+                        .flatMap(exists -> exists
+                                ? Mono.error(VersionConflicts.of(TaskEntity.class, id, patch.getVersion()))
+                                : Mono.empty())));
+    }
+
+    @Override
+    public Mono<Boolean> addObserver(String id, String observerId) {
+        return mongoTemplate.updateFirst(byId(id), addObserverUpdate(observerId), TaskEntity.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public Mono<Boolean> removeObserver(String id, String observerId) {
+        return mongoTemplate.updateFirst(byId(id), removeObserverUpdate(observerId), TaskEntity.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public Mono<TaskEntity> addObserverAndGet(String id, String observerId) {
+        return mongoTemplate.findAndModify(byId(id), addObserverUpdate(observerId),
+                FindAndModifyOptions.options().returnNew(true), TaskEntity.class);
+    }
+
+    @Override
+    public Mono<TaskEntity> removeObserverAndGet(String id, String observerId) {
+        return mongoTemplate.findAndModify(byId(id), removeObserverUpdate(observerId),
+                FindAndModifyOptions.options().returnNew(true), TaskEntity.class);
+    }
+
+    @Override
+    public Mono<Map<Integer, String>> insertUnordered(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskEntity.class)
+                .insert(tasks)
+                .execute()
+                .<Map<Integer, String>>map(result -> Map.of())
+                .onErrorResume(error -> bulkWriteFailure(error) != null,
+                        error -> Mono.just(writeErrorsByIndex(bulkWriteFailure(error))));
+    }
+
+    private static MongoBulkWriteException bulkWriteFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+        }
+        return null;
+    }
+
+    private static Map<Integer, String> writeErrorsByIndex(MongoBulkWriteException exception) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (BulkWriteError writeError : exception.getWriteErrors()) {
+            errors.put(writeError.getIndex(), writeError.getMessage());
+        }
+        return errors;
+    }
+
+    private static Query project(Query query, TaskView view, TaskSort sort) {
+        Set<String> fields = view.documentFields(sort);
+        if (fields != null) {
+            fields.forEach(field -> query.fields().include(field));
+        }
+        return query;
+    }
+
+    private static Criteria criteria(TaskFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getStatus() != null) {
+            criteria.and("status").is(filter.getStatus());
+        }
+        if (filter.getAssigneeId() != null) {
+            criteria.and("assigneeId").is(filter.getAssigneeId());
+        }
+        if (filter.getAuthorId() != null) {
+            criteria.and("authorId").is(filter.getAuthorId());
+        }
+        if (filter.getObserverId() != null) {
+            criteria.and("observerIds").is(filter.getObserverId());
+        }
+        if (filter.getUpdatedSince() != null) {
+            criteria.and("updatedAt").gte(filter.getUpdatedSince());
+        }
+        return criteria;
+    }
+
+    private static Sort keysetSort(TaskSort sort) {
+        return Sort.by(new Sort.Order(sort.getDirection(), sort.getField()),
+                new Sort.Order(sort.getDirection(), KeysetQueries.ID_FIELD));
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    private static Update addObserverUpdate(String observerId) {
+        return new Update().addToSet("observerIds", observerId).currentDate("updatedAt").inc("version", 1);
+    }
+
+    private static Update removeObserverUpdate(String observerId) {
+        return new Update().pull("observerIds", observerId).currentDate("updatedAt").inc("version", 1);
+    }
+
+    private static void setIfNotNull(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+    private Flux<TaskEntity> aggregateWithUsers(Criteria criteria, Sort sort, int limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(criteria));
+        if (sort != null) {
+            stages.add(Aggregation.sort(sort));
+        }
+        if (limit > 0) {
+            stages.add(Aggregation.limit(limit));
+        }
+        stages.add(Aggregation.lookup(USERS_COLLECTION, "authorId", "_id", "author"));
+        stages.add(Aggregation.unwind("author", true));
+        stages.add(Aggregation.lookup(USERS_COLLECTION, "assigneeId", "_id", "assignee"));
+        stages.add(Aggregation.unwind("assignee", true));
+        stages.add(Aggregation.lookup(USERS_COLLECTION, "observerIds", "_id", "observers"));
+        return readRouting.readMany(operations ->
+                operations.aggregate(Aggregation.newAggregation(stages), TASKS_COLLECTION, TaskEntity.class));
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.service.UserLookupMemo;
+import org.example.springreact.utils.StreamingMediaTypes;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class UserLookupMemoFilter implements WebFilter {
+    private static final List<PathPattern> STREAMING_ROUTES = List.of(
+            PathPatternParser.defaultInstance.parse("/api/tasks/changes"),
+            PathPatternParser.defaultInstance.parse("/api/functions/tasks/changes"));
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (isStreaming(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(UserLookupMemo::attach);
+    }
+
+    // a stream outlives any single read, so a memo would keep serving stale users and never stop growing
+    private static boolean isStreaming(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        return STREAMING_ROUTES.stream().anyMatch(route -> route.matches(path))
+                || StreamingMediaTypes.select(request.getHeaders().getAccept()).isPresent();
+    }
+}
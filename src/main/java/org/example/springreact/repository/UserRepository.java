@@ -6,6 +6,6 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface UserRepository extends ReactiveMongoRepository<UserEntity, String> {
+public interface UserRepository extends ReactiveMongoRepository<UserEntity, String>, UserRepositoryCustom {
     Mono<UserEntity> findByUsername(String userName);
 }
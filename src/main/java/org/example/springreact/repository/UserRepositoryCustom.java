@@ -0,0 +1,21 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.CollectionVersion;
+import org.example.springreact.model.PageCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface UserRepositoryCustom {
+    Mono<UserEntity> findById(String id);
+
+    Flux<UserEntity> findAllById(Iterable<String> ids);
+
+    Flux<UserEntity> findPage(PageCursor after, int limit);
+
+    Flux<UserEntity> streamAll(int batchSize);
+
+    Mono<UserEntity> updateNonNullFields(String id, UserEntity patch);
+
+    Mono<CollectionVersion> collectionVersion();
+}
@@ -0,0 +1,86 @@
+package org.example.springreact.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.CollectionVersion;
+import org.example.springreact.model.PageCursor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Streamable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    @Override
+    public Mono<UserEntity> findById(String id) {
+        return readRouting.read(operations -> operations.findOne(byId(id), UserEntity.class));
+    }
+
+    @Override
+    public Flux<UserEntity> findAllById(Iterable<String> ids) {
+        Query query = Query.query(Criteria.where("_id").in(Streamable.of(ids).toList()));
+        return readRouting.readMany(operations -> operations.find(query, UserEntity.class));
+    }
+
+    @Override
+    public Flux<UserEntity> findPage(PageCursor after, int limit) {
+        return readRouting.readMany(operations -> operations.find(KeysetQueries.page(after, limit), UserEntity.class));
+    }
+
+    @Override
+    public Flux<UserEntity> streamAll(int batchSize) {
+        return readRouting.readMany(operations -> operations.find(new Query().cursorBatchSize(batchSize), UserEntity.class))
+                .limitRate(batchSize);
+    }
+
+    @Override
+    public Mono<UserEntity> updateNonNullFields(String id, UserEntity patch) {
+        Update update = new Update();
+        setIfNotNull(update, "username", patch.getUsername());
+        setIfNotNull(update, "email", patch.getEmail());
+        setIfNotNull(update, "password", patch.getPassword());
+        setIfNotNull(update, "roles", patch.getRoles());
+        if (update.getUpdateObject().isEmpty() && patch.getVersion() == null) {
+            return mongoTemplate.findById(id, UserEntity.class);
+        }
+        update.currentDate("updatedAt").inc("version", 1);
+
+        Query query = byId(id);
+        if (patch.getVersion() == null) {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().returnNew(true), UserEntity.class);
+        }
+        query.addCriteria(Criteria.where("version").is(patch.getVersion()));
+        return mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), UserEntity.class)
+                .switchIfEmpty(Mono.defer(() -> mongoTemplate.exists(byId(id), UserEntity.class)
+                        .flatMap(exists -> exists
+                                ? Mono.error(VersionConflicts.of(UserEntity.class, id, patch.getVersion()))
+                                : Mono.empty())));
+    }
+
+    @Override
+    public Mono<CollectionVersion> collectionVersion() {
+        return readRouting.readMany(operations ->
+                        operations.aggregate(CollectionVersions.aggregation(new Criteria()), "users", CollectionVersion.class))
+                .next()
+                .defaultIfEmpty(CollectionVersion.EMPTY);
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    private static void setIfNotNull(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+}
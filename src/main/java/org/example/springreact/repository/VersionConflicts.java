@@ -0,0 +1,12 @@
+package org.example.springreact.repository;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+@UtilityClass
+class VersionConflicts {
+    OptimisticLockingFailureException of(Class<?> type, String id, Long expectedVersion) {
+        return new OptimisticLockingFailureException(
+                String.format("%s %s is no longer at version %d", type.getSimpleName(), id, expectedVersion));
+    }
+}
@@ -2,11 +2,13 @@ package org.example.springreact.security;
 
 import lombok.RequiredArgsConstructor;
 import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.RoleType;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class AppUserPrincipal implements UserDetails {
@@ -17,6 +19,10 @@ public class AppUserPrincipal implements UserDetails {
         return user.getId();
     }
 
+    public Set<RoleType> getRoles() {
+        return user.getRoles();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return user.getRoles().stream().map(roleType ->
@@ -0,0 +1,23 @@
+package org.example.springreact.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+public class BearerTokenServerAuthenticationConverter implements ServerAuthenticationConverter {
+    private static final String BEARER_PREFIX = TokenService.TOKEN_TYPE + " ";
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null
+                || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return Mono.empty();
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated(token, token));
+    }
+}
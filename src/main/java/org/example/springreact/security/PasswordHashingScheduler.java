@@ -0,0 +1,107 @@
+package org.example.springreact.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.example.springreact.configuration.AppSecurityProperties;
+import org.example.springreact.metrics.AppMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class PasswordHashingScheduler implements DisposableBean {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    private final LongAdder rejectedCount = new LongAdder();
+    private final Timer hashingTimer;
+    private final Timer queueWaitTimer;
+
+    public PasswordHashingScheduler(PasswordEncoder passwordEncoder, AppSecurityProperties properties,
+                                    MeterRegistry meterRegistry) {
+        AppSecurityProperties.PasswordHashing hashing = properties.getPasswordHashing();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(hashing.getPoolSize(), hashing.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashing.getQueueCapacity()),
+                threadFactory(),
+                (task, pool) -> {
+                    rejectedCount.increment();
+                    throw new RejectedExecutionException("Password hashing queue is full");
+                });
+        this.scheduler = Schedulers.fromExecutorService(executor, "password-hashing");
+
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        FunctionCounter.builder("app.password.hashing.rejected", rejectedCount, LongAdder::sum)
+                .register(meterRegistry);
+        this.hashingTimer = Timer.builder(AppMetrics.PASSWORD_HASHING).register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(AppMetrics.PASSWORD_HASHING_QUEUE_WAIT).register(meterRegistry);
+    }
+
+    public Mono<String> encode(CharSequence rawPassword) {
+        return Mono.defer(() -> {
+                    long submittedAt = System.nanoTime();
+                    return Mono.fromCallable(() -> {
+                                long startedAt = System.nanoTime();
+                                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                                try {
+                                    return passwordEncoder.encode(rawPassword);
+                                } finally {
+                                    hashingTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                                }
+                            })
+                            .subscribeOn(scheduler);
+                })
+                .onErrorMap(RejectedExecutionException.class, PasswordHashingScheduler::overloaded);
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public static ResponseStatusException overloaded(Throwable cause) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Password hashing capacity exhausted", cause);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
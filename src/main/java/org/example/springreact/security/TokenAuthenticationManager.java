@@ -0,0 +1,21 @@
+package org.example.springreact.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class TokenAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final TokenService tokenService;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        return Mono.fromSupplier(() -> {
+            AppUserPrincipal principal = tokenService.verify((String) authentication.getCredentials());
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.springreact.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springreact.model.RoleType;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenClaims {
+    private String sub;
+    private String name;
+    private Set<RoleType> roles;
+    private long exp;
+}
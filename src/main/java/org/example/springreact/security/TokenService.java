@@ -0,0 +1,107 @@
+package org.example.springreact.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springreact.configuration.AppSecurityProperties;
+import org.example.springreact.dto.TokenResponse;
+import org.example.springreact.entity.UserEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+
+@Component
+@Slf4j
+public class TokenService {
+    public static final String TOKEN_TYPE = "Bearer";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final ThreadLocal<Mac> mac;
+
+    public TokenService(AppSecurityProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.ttl = properties.getToken().getTtl();
+
+        SecretKeySpec key = new SecretKeySpec(resolveSecret(properties.getToken().getSecret()), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize token signer", e);
+            }
+        });
+    }
+
+    public TokenResponse issue(AppUserPrincipal principal) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        TokenClaims claims = new TokenClaims(principal.getUserId(), principal.getUsername(),
+                principal.getRoles(), expiresAt.getEpochSecond());
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return new TokenResponse(payload + "." + sign(payload), TOKEN_TYPE, expiresAt);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot issue token", e);
+        }
+    }
+
+    public AppUserPrincipal verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw new BadCredentialsException("Malformed token");
+        }
+        String payload = token.substring(0, separator);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new BadCredentialsException("Invalid token signature");
+        }
+
+        TokenClaims claims;
+        try {
+            claims = objectMapper.readValue(DECODER.decode(payload), TokenClaims.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Malformed token", e);
+        }
+        if (Instant.now().getEpochSecond() >= claims.getExp()) {
+            throw new BadCredentialsException("Token expired");
+        }
+
+        UserEntity user = new UserEntity();
+        user.setId(claims.getSub());
+        user.setUsername(claims.getName());
+        user.setRoles(claims.getRoles() == null ? new HashSet<>() : claims.getRoles());
+        return new AppUserPrincipal(user);
+    }
+
+    private String sign(String payload) {
+        return ENCODER.encodeToString(mac.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (StringUtils.hasText(secret)) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("app.security.token.secret is not set, tokens will be signed with a random key and won't survive a restart");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.springreact.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.springreact.metrics.AppMetrics;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Mono<V>> flights = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, Duration window, MeterRegistry meterRegistry) {
+        this.window = window;
+        this.coalesced = Counter.builder(AppMetrics.SINGLE_FLIGHT_COALESCED)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public Mono<V> load(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Mono<V> flight = flights.get(key);
+            if (flight == null) {
+                Mono<V> started = start(key, loader);
+                flight = flights.putIfAbsent(key, started);
+                if (flight == null) {
+                    return started;
+                }
+            }
+            coalesced.increment();
+            return flight;
+        });
+    }
+
+    public void forget(Predicate<K> keys) {
+        flights.keySet().removeIf(keys);
+    }
+
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    private Mono<V> start(K key, Function<K, Mono<V>> loader) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        Mono<V> flight = loader.apply(key)
+                .doFinally(signal -> land(key, self.get(), signal))
+                .cache();
+        self.set(flight);
+        return flight;
+    }
+
+    private void land(K key, Mono<V> flight, SignalType signal) {
+        if (signal != SignalType.ON_COMPLETE || window.isZero()) {
+            flights.remove(key, flight);
+            return;
+        }
+        Mono.delay(window).subscribe(tick -> flights.remove(key, flight));
+    }
+}
@@ -0,0 +1,241 @@
+package org.example.springreact.service;
+
+import com.mongodb.client.model.changestream.FullDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.example.springreact.configuration.ChangeFeedProperties;
+import org.example.springreact.dto.TaskChangeEvent;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.model.TaskChangeType;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@Slf4j
+public class TaskChangeFeed implements DisposableBean {
+    private static final String TASKS_COLLECTION = "tasks";
+    private static final String RESUME_TOKEN_FIELD = "_data";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final UserBatchLoader userBatchLoader;
+    private final TaskMapper taskMapper;
+    private final ChangeFeedProperties properties;
+
+    private final Sinks.Many<SequencedChange> sink;
+    private final ConcurrentLinkedDeque<SequencedChange> history = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private volatile BsonValue lastResumeToken;
+    private volatile Disposable upstream;
+
+    public TaskChangeFeed(ReactiveMongoTemplate mongoTemplate, UserBatchLoader userBatchLoader,
+                          TaskMapper taskMapper, ChangeFeedProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.userBatchLoader = userBatchLoader;
+        this.taskMapper = taskMapper;
+        this.properties = properties;
+        this.sink = Sinks.many().replay().limit(properties.getHistorySize());
+    }
+
+    public Flux<ServerSentEvent<TaskChangeEvent>> events(String resumeToken) {
+        Flux<ServerSentEvent<TaskChangeEvent>> changes = changes(resumeToken)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(change.getResumeToken())
+                        .event(change.getType().name().toLowerCase())
+                        .build());
+        Flux<ServerSentEvent<TaskChangeEvent>> heartbeats = Flux.interval(properties.getHeartbeatInterval())
+                .map(tick -> ServerSentEvent.<TaskChangeEvent>builder().comment("heartbeat").build());
+        return Flux.merge(changes, heartbeats);
+    }
+
+    public Flux<TaskChangeEvent> changes(String resumeToken) {
+        return Flux.defer(() -> {
+            connect();
+            if (resumeToken == null || resumeToken.isBlank()) {
+                return live(sequence.get());
+            }
+            long from = sequenceOf(resumeToken);
+            return from < 0 ? catchUp(toBson(resumeToken)) : live(from);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        Disposable subscription = upstream;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private void connect() {
+        if (!connected.compareAndSet(false, true)) {
+            return;
+        }
+        upstream = Flux.defer(() -> watch(lastResumeToken))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Task change stream failed, reconnecting", signal.failure())))
+                .subscribe(this::publish, error -> log.error("Task change stream terminated", error));
+    }
+
+    private Flux<TaskChangeEvent> live(long from) {
+        return sink.asFlux()
+                .filter(change -> change.sequence() > from)
+                .map(SequencedChange::event)
+                .onBackpressureBuffer(properties.getClientBufferSize());
+    }
+
+    // older than the in-memory history: Mongo replays the gap on a dedicated cursor, which is closed at the
+    // first change the history still retains so the client continues on the shared stream. While no new
+    // changes arrive the dedicated cursor stays open, so a quiet collection holds it until the next change.
+    private Flux<TaskChangeEvent> catchUp(BsonValue resumeAfter) {
+        return Flux.defer(() -> {
+            AtomicReference<Change> joinAt = new AtomicReference<>();
+            Flux<TaskChangeEvent> replay = watch(resumeAfter)
+                    .takeWhile(change -> {
+                        if (isRetained(change)) {
+                            joinAt.set(change);
+                            return false;
+                        }
+                        return true;
+                    })
+                    .map(Change::event);
+            return replay.concatWith(Flux.defer(() -> {
+                Change join = joinAt.get();
+                if (join == null) {
+                    return Flux.empty();
+                }
+                return sink.asFlux()
+                        .skipUntil(change -> isSameChange(change, join) || isNewer(change.clusterTime(), join.clusterTime()))
+                        .map(SequencedChange::event)
+                        .onBackpressureBuffer(properties.getClientBufferSize());
+            }));
+        });
+    }
+
+    private boolean isRetained(Change change) {
+        SequencedChange oldest = history.peekFirst();
+        return oldest != null && isNewer(change.clusterTime(), oldest.clusterTime());
+    }
+
+    private static boolean isSameChange(SequencedChange change, Change other) {
+        String resumeToken = other.event().getResumeToken();
+        return resumeToken != null && resumeToken.equals(change.event().getResumeToken());
+    }
+
+    private static boolean isNewer(BsonTimestamp clusterTime, BsonTimestamp than) {
+        return clusterTime != null && than != null && clusterTime.compareTo(than) > 0;
+    }
+
+    private void publish(Change published) {
+        TaskChangeEvent event = published.event();
+        lastResumeToken = toBson(event.getResumeToken());
+        SequencedChange change = new SequencedChange(sequence.incrementAndGet(), published.clusterTime(), event);
+        history.addLast(change);
+        while (history.size() > properties.getHistorySize()) {
+            history.pollFirst();
+        }
+        sink.emitNext(change, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    private long sequenceOf(String resumeToken) {
+        Iterator<SequencedChange> iterator = history.descendingIterator();
+        while (iterator.hasNext()) {
+            SequencedChange change = iterator.next();
+            if (resumeToken.equals(change.event().getResumeToken())) {
+                return change.sequence();
+            }
+        }
+        return -1;
+    }
+
+    private Flux<Change> watch(BsonValue resumeAfter) {
+        ChangeStreamOptions.ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder()
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+        if (resumeAfter != null) {
+            options.resumeAfter(resumeAfter);
+        }
+        return mongoTemplate.changeStream(TASKS_COLLECTION, options.build(), TaskEntity.class)
+                .concatMap(this::toEvent);
+    }
+
+    private Mono<Change> toEvent(ChangeStreamEvent<TaskEntity> event) {
+        TaskChangeType type = changeType(event);
+        if (type == null || event.getRaw() == null) {
+            return Mono.empty();
+        }
+        BsonTimestamp clusterTime = event.getRaw().getClusterTime();
+        String resumeToken = fromBson(event.getResumeToken());
+        String taskId = documentId(event);
+        TaskEntity task = event.getBody();
+        if (type == TaskChangeType.DELETE || task == null) {
+            return Mono.just(new Change(clusterTime, new TaskChangeEvent(resumeToken, type, taskId, null)));
+        }
+        return userBatchLoader.populateTasksWithUsers(Flux.just(task))
+                .next()
+                .map(hydrated -> new Change(clusterTime,
+                        new TaskChangeEvent(resumeToken, type, taskId, taskMapper.entityToResponse(hydrated))));
+    }
+
+    private static TaskChangeType changeType(ChangeStreamEvent<TaskEntity> event) {
+        if (event.getOperationType() == null) {
+            return null;
+        }
+        return switch (event.getOperationType()) {
+            case INSERT -> TaskChangeType.INSERT;
+            case UPDATE -> TaskChangeType.UPDATE;
+            case REPLACE -> TaskChangeType.REPLACE;
+            case DELETE -> TaskChangeType.DELETE;
+            default -> null;
+        };
+    }
+
+    private static String documentId(ChangeStreamEvent<TaskEntity> event) {
+        if (event.getRaw() == null || event.getRaw().getDocumentKey() == null) {
+            return null;
+        }
+        BsonValue id = event.getRaw().getDocumentKey().get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private static String fromBson(BsonValue resumeToken) {
+        if (resumeToken == null || !resumeToken.isDocument()) {
+            return null;
+        }
+        BsonValue data = resumeToken.asDocument().get(RESUME_TOKEN_FIELD);
+        return data != null && data.isString() ? data.asString().getValue() : null;
+    }
+
+    private static BsonValue toBson(String resumeToken) {
+        return resumeToken == null ? null : new BsonDocument(RESUME_TOKEN_FIELD, new BsonString(resumeToken));
+    }
+
+    private record Change(BsonTimestamp clusterTime, TaskChangeEvent event) {
+    }
+
+    private record SequencedChange(long sequence, BsonTimestamp clusterTime, TaskChangeEvent event) {
+    }
+}
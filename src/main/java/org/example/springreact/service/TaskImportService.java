@@ -0,0 +1,120 @@
+package org.example.springreact.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.configuration.TaskImportProperties;
+import org.example.springreact.dto.TaskImportResult;
+import org.example.springreact.dto.UpsertTaskRequest;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.model.TaskImportStatus;
+import org.example.springreact.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+    private final TaskRepository taskRepository;
+    private final UserService userService;
+    private final TaskMapper taskMapper;
+    private final TaskImportProperties taskImportProperties;
+    private final ObjectMapper objectMapper;
+
+    public Flux<TaskImportResult> importTasks(Flux<String> lines, String authorId) {
+        return lines.index()
+                .filter(line -> !line.getT2().isBlank())
+                .concatMap(line -> parse(line.getT1(), line.getT2()))
+                .buffer(taskImportProperties.getBatchSize())
+                .concatMap(batch -> importBatch(batch, authorId), 1);
+    }
+
+    private Mono<ImportLine> parse(long index, String line) {
+        return Mono.fromCallable(() -> objectMapper.readValue(line, UpsertTaskRequest.class))
+                .map(request -> new ImportLine(index, request, null))
+                .defaultIfEmpty(new ImportLine(index, null, "Empty record on line " + (index + 1)))
+                .onErrorResume(JsonProcessingException.class, error -> Mono.just(new ImportLine(index, null,
+                        "Malformed JSON on line " + (index + 1) + ": " + error.getOriginalMessage())));
+    }
+
+    private Flux<TaskImportResult> importBatch(List<ImportLine> batch, String authorId) {
+        Set<String> assigneeIds = batch.stream()
+                .map(ImportLine::request)
+                .filter(Objects::nonNull)
+                .map(UpsertTaskRequest::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return userService.findAllById(assigneeIds)
+                .map(UserEntity::getId)
+                .collect(Collectors.toSet())
+                .flatMapMany(knownAssignees -> writeBatch(batch, knownAssignees, authorId));
+    }
+
+    private Flux<TaskImportResult> writeBatch(List<ImportLine> batch, Set<String> knownAssignees,
+                                              String authorId) {
+        TaskImportResult[] results = new TaskImportResult[batch.size()];
+        List<TaskEntity> tasks = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Instant now = Instant.now();
+
+        for (int i = 0; i < batch.size(); i++) {
+            long index = batch.get(i).index();
+            UpsertTaskRequest request = batch.get(i).request();
+            String error = request == null ? batch.get(i).error() : validate(request, knownAssignees);
+            if (error != null) {
+                results[i] = new TaskImportResult(index, null, TaskImportStatus.REJECTED, error);
+                continue;
+            }
+            TaskEntity task = taskMapper.requestToEntity(request);
+            task.setId(UUID.randomUUID().toString());
+            task.setAuthorId(authorId);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            task.setObserverIds(new HashSet<>());
+            task.setVersion(0L);
+            tasks.add(task);
+            positions.add(i);
+            results[i] = new TaskImportResult(index, task.getId(), TaskImportStatus.CREATED, null);
+        }
+
+        return taskRepository.insertUnordered(tasks)
+                .flatMapIterable(writeErrors -> {
+                    for (Map.Entry<Integer, String> writeError : writeErrors.entrySet()) {
+                        TaskImportResult result = results[positions.get(writeError.getKey())];
+                        result.setStatus(TaskImportStatus.FAILED);
+                        result.setError(writeError.getValue());
+                    }
+                    return List.of(results);
+                });
+    }
+
+    private static String validate(UpsertTaskRequest request, Set<String> knownAssignees) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "Task name is required";
+        }
+        if (request.getStatus() == null) {
+            return "Task status is required";
+        }
+        if (request.getAssigneeId() != null && !knownAssignees.contains(request.getAssigneeId())) {
+            return "Assignee not found: " + request.getAssigneeId();
+        }
+        return null;
+    }
+
+    private record ImportLine(long index, UpsertTaskRequest request, String error) {
+    }
+}
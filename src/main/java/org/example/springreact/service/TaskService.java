@@ -1,16 +1,37 @@
 package org.example.springreact.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.springreact.configuration.ConcurrencyProperties;
+import org.example.springreact.configuration.HydrationProperties;
+import org.example.springreact.configuration.PaginationProperties;
 import org.example.springreact.entity.TaskEntity;
 import org.example.springreact.entity.UserEntity;
+import org.example.springreact.metrics.AppMetrics;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.HydrationEngine;
+import org.example.springreact.model.PageCursor;
+import org.example.springreact.model.TaskFilter;
+import org.example.springreact.model.TaskSort;
+import org.example.springreact.model.TaskView;
 import org.example.springreact.repository.TaskRepository;
-import org.example.springreact.utils.BeanUtils;
+import org.example.springreact.utils.ETags;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -19,17 +40,111 @@ import java.util.stream.Collectors;
 public class TaskService {
     private final TaskRepository taskRepository;
     private final UserService userService;
+    private final UserBatchLoader userBatchLoader;
+    private final HydrationProperties hydrationProperties;
+    private final PaginationProperties paginationProperties;
+    private final ConcurrencyProperties concurrencyProperties;
+    private final SingleFlight<Tuple2<String, TaskView>, TaskEntity> taskSingleFlight;
+    private final AppMetrics appMetrics;
 
     public Flux<TaskEntity> findAll() {
-        return taskRepository.findAll()
-                .flatMap(this::populateTaskWithUsers);
+        return findAll(TaskFilter.NONE, TaskSort.CREATED_AT, TaskView.FULL);
+    }
+
+    public Flux<TaskEntity> findAll(TaskFilter filter, TaskSort sort, TaskView view) {
+        if (view.isFull() && hydrationProperties.getFindAllEngine() == HydrationEngine.LOOKUP) {
+            return taskRepository.findAllWithUsers(filter, sort);
+        }
+        Flux<TaskEntity> tasks = taskRepository.streamAll(filter, sort, view, paginationProperties.getStreamBatchSize());
+        return userBatchLoader.populateTasksWithUsers(tasks, view.getExpand())
+                .map(view::trim);
+    }
+
+    public Mono<CursorPage<TaskEntity>> findPage(PageCursor after, Integer limit) {
+        return findPage(TaskFilter.NONE, TaskSort.CREATED_AT, TaskView.FULL, after, limit);
+    }
+
+    public Mono<CursorPage<TaskEntity>> findPage(TaskFilter filter, TaskSort sort, TaskView view,
+                                                 PageCursor after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        if (view.isFull() && hydrationProperties.getFindAllEngine() == HydrationEngine.LOOKUP) {
+            return taskRepository.findPageWithUsers(filter, sort, after, pageSize + 1)
+                    .collectList()
+                    .map(tasks -> CursorPage.of(tasks, pageSize, sort::cursorOf));
+        }
+        return taskRepository.findPage(filter, sort, view, after, pageSize + 1)
+                .collectList()
+                .map(tasks -> CursorPage.of(tasks, pageSize, sort::cursorOf))
+                .flatMap(page -> userBatchLoader.populateTasksWithUsers(Flux.fromIterable(page.getContent()), view.getExpand())
+                        .map(view::trim)
+                        .collectList()
+                        .map(tasks -> new CursorPage<>(tasks, page.getNextCursor())));
+    }
+
+    public Flux<TaskEntity> search(String text, TaskFilter filter, Integer page, Integer limit) {
+        if (!StringUtils.hasText(text)) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search text is required"));
+        }
+        int pageSize = paginationProperties.resolveLimit(limit);
+        long offset = (long) Math.max(page == null ? 0 : page, 0) * pageSize;
+        return userBatchLoader.populateTasksWithUsers(taskRepository.search(text.trim(), filter, offset, pageSize));
     }
 
     public Mono<TaskEntity> findById(String id) {
+        return findById(id, TaskView.FULL);
+    }
+
+    public Mono<TaskEntity> findById(String id, TaskView view) {
+        return taskSingleFlight.load(Tuples.of(id, view), key -> load(key.getT1(), key.getT2()));
+    }
+
+    private Mono<TaskEntity> load(String id, TaskView view) {
+        if (!view.isFull()) {
+            return userBatchLoader.populateTasksWithUsers(taskRepository.findProjectedById(id, view).flux(), view.getExpand())
+                    .map(view::trim)
+                    .next();
+        }
+        if (hydrationProperties.getFindByIdEngine() == HydrationEngine.LOOKUP) {
+            return taskRepository.findByIdWithUsers(id);
+        }
         return taskRepository.findById(id)
                 .flatMap(this::populateTaskWithUsers);
     }
 
+    public Mono<String> findEntityTag(String id, TaskView view, MediaType bodyType) {
+        return taskRepository.findVersionById(id)
+                .map(task -> entityTag(task, view, bodyType));
+    }
+
+    public String entityTag(TaskEntity task, TaskView view, MediaType bodyType) {
+        return ETags.ofVariant(state(task), view, bodyType);
+    }
+
+    // a page is tagged by the documents it holds, so revalidating it costs no more than reading it
+    public String pageTag(CursorPage<TaskEntity> page, TaskView view, MediaType bodyType) {
+        List<Object> parts = new ArrayList<>();
+        for (TaskEntity task : page.getContent()) {
+            parts.add(task.getId());
+            parts.add(task.getVersion());
+            addUserVersion(parts, task.getAuthor());
+            addUserVersion(parts, task.getAssignee());
+            if (task.getObservers() != null) {
+                task.getObservers().stream()
+                        .sorted(Comparator.comparing(UserEntity::getId))
+                        .forEach(observer -> addUserVersion(parts, observer));
+            }
+        }
+        parts.add(page.getNextCursor());
+        parts.add(view);
+        parts.add(bodyType);
+        return ETags.of(parts.toArray());
+    }
+
+    public Mono<String> findCollectionTag(TaskFilter filter, String variant) {
+        return taskRepository.collectionVersion(filter)
+                .map(version -> ETags.of(version.getCount(), version.getLastUpdatedAt(), variant));
+    }
+
     public Mono<TaskEntity> save(TaskEntity task, String authorId) {
         task.setId(UUID.randomUUID().toString());
         task.setAuthorId(authorId);
@@ -42,55 +157,112 @@ public class TaskService {
     }
 
     public Mono<TaskEntity> update(String id, TaskEntity task) {
-        return findById(id).flatMap(taskForUpdate -> {
+        return update(id, task, List.of());
+    }
 
-            BeanUtils.copyNonNullProperties(task, taskForUpdate);
-            taskForUpdate.setUpdatedAt(Instant.now());
+    public Mono<TaskEntity> update(String id, TaskEntity task, List<String> ifMatch) {
+        if (ifMatch.isEmpty()) {
+            return updateLatest(id, task);
+        }
+        return taskRepository.findVersionById(id)
+                .flatMap(current -> {
+                    // a legacy document without a version cannot be matched, so it must not be overwritten blindly
+                    if (current.getVersion() == null || !ETags.matchesState(ifMatch, state(current))) {
+                        return Mono.error(new OptimisticLockingFailureException("Task " + id + " does not match If-Match"));
+                    }
+                    task.setVersion(current.getVersion());
+                    return taskRepository.updateNonNullFields(id, task);
+                })
+                .onErrorMap(OptimisticLockingFailureException.class, TaskService::preconditionFailed)
+                .doOnSuccess(updated -> forget(id))
+                .flatMap(this::populateTaskWithUsers);
+    }
 
-            return populateTaskWithUsers(taskForUpdate)
-                    .flatMap(taskRepository::save);
-        });
+    // without a precondition the patch is re-applied to the latest version until it wins or retries run out
+    private Mono<TaskEntity> updateLatest(String id, TaskEntity task) {
+        return taskRepository.findVersionById(id)
+                .flatMap(current -> {
+                    task.setVersion(current.getVersion());
+                    return taskRepository.updateNonNullFields(id, task);
+                })
+                .retryWhen(Retry.backoff(concurrencyProperties.getMaxRetries(), concurrencyProperties.getRetryBackoff())
+                        .filter(OptimisticLockingFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorMap(OptimisticLockingFailureException.class, TaskService::conflict)
+                .doOnSuccess(updated -> forget(id))
+                .flatMap(this::populateTaskWithUsers);
     }
 
     public Mono<Void> deleteById(String id) {
-        return taskRepository.deleteById(id);
+        return taskRepository.deleteById(id)
+                .doOnSuccess(v -> forget(id));
     }
 
-    public Mono<TaskEntity> addObserver(String id, String idObserver) {
-        return findById(id)
-                .flatMap(task -> {
-                    if (task.getObserverIds() == null) {
-                        task.setObserverIds(new HashSet<>());
-                    }
-                    task.getObserverIds().add(idObserver);
-                    task.setUpdatedAt(Instant.now());
-                    return userService.findById(idObserver)
-                            .flatMap(observer -> {
-                                if (task.getObservers() == null) {
-                                    task.setObservers(new HashSet<>());
-                                }
-                                task.getObservers().add(observer);
-                                return populateTaskWithUsers(task)
-                                        .flatMap(taskRepository::save);
-                            });
-                });
+    public Mono<Boolean> addObserver(String id, String idObserver) {
+        return taskRepository.addObserver(id, idObserver)
+                .doOnSuccess(matched -> forget(id));
+    }
+
+    public Mono<Boolean> removeObserver(String id, String idObserver) {
+        return taskRepository.removeObserver(id, idObserver)
+                .doOnSuccess(matched -> forget(id));
+    }
+
+    public Mono<TaskEntity> addObserverAndGet(String id, String idObserver) {
+        return taskRepository.addObserverAndGet(id, idObserver)
+                .doOnSuccess(updated -> forget(id))
+                .flatMap(this::populateTaskWithUsers);
+    }
+
+    public Mono<TaskEntity> removeObserverAndGet(String id, String idObserver) {
+        return taskRepository.removeObserverAndGet(id, idObserver)
+                .doOnSuccess(updated -> forget(id))
+                .flatMap(this::populateTaskWithUsers);
+    }
+
+    private void forget(String id) {
+        taskSingleFlight.forget(key -> id.equals(key.getT1()));
     }
 
     private Mono<TaskEntity> populateTaskWithUsers(TaskEntity task) {
-        Mono<UserEntity> authorMono = userService.findById(task.getAuthorId());
-        Mono<UserEntity> assigneeMono = userService.findById(task.getAssigneeId());
-        Flux<UserEntity> observerMonos = Flux.empty();
-        if (task.getObserverIds() != null) {
-            observerMonos = Flux.fromIterable(task.getObserverIds())
-                    .flatMap(userService::findById);
+        Mono<TaskEntity> populated = Mono.deferContextual(context -> {
+            UserLookupMemo memo = UserLookupMemo.from(context);
+            Mono<UserEntity> authorMono = memo.user(task.getAuthorId(), userService::findById);
+            Mono<UserEntity> assigneeMono = memo.user(task.getAssigneeId(), userService::findById);
+            Flux<UserEntity> observerMonos = Flux.empty();
+            if (task.getObserverIds() != null) {
+                observerMonos = Flux.fromIterable(task.getObserverIds())
+                        .flatMap(observerId -> memo.user(observerId, userService::findById));
+            }
+
+            return Mono.zip(authorMono, assigneeMono, observerMonos.collect(Collectors.toSet()))
+                    .map(tuple -> {
+                        task.setAuthor(tuple.getT1());
+                        task.setAssignee(tuple.getT2());
+                        task.setObservers(tuple.getT3());
+                        return task;
+                    });
+        });
+        return appMetrics.time(populated, AppMetrics.HYDRATION, "mode", "single");
+    }
+
+    private static void addUserVersion(List<Object> parts, UserEntity user) {
+        if (user != null) {
+            parts.add(user.getId());
+            parts.add(user.getVersion());
         }
+    }
+
+    // every view and body type of one version share the state, so any of their tags satisfies If-Match
+    private static String state(TaskEntity task) {
+        return task.getId() + "|" + task.getVersion();
+    }
+
+    private static ResponseStatusException preconditionFailed(Throwable cause) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Task has been modified", cause);
+    }
 
-        return Mono.zip(authorMono, assigneeMono, observerMonos.collect(Collectors.toSet()))
-                .map(tuple -> {
-                    task.setAuthor(tuple.getT1());
-                    task.setAssignee(tuple.getT2());
-                    task.setObservers(tuple.getT3());
-                    return task;
-                });
+    private static ResponseStatusException conflict(Throwable cause) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Task is being modified concurrently", cause);
     }
 }
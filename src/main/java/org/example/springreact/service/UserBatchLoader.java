@@ -0,0 +1,88 @@
+package org.example.springreact.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springreact.configuration.HydrationProperties;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.metrics.AppMetrics;
+import org.example.springreact.model.TaskRelation;
+import org.example.springreact.model.TaskView;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class UserBatchLoader {
+    private final UserService userService;
+    private final HydrationProperties hydrationProperties;
+    private final AppMetrics appMetrics;
+
+    public Flux<TaskEntity> populateTasksWithUsers(Flux<TaskEntity> tasks) {
+        return populateTasksWithUsers(tasks, TaskView.FULL.getExpand());
+    }
+
+    public Flux<TaskEntity> populateTasksWithUsers(Flux<TaskEntity> tasks, Set<TaskRelation> relations) {
+        if (relations.isEmpty()) {
+            return tasks;
+        }
+        return tasks.bufferTimeout(hydrationProperties.getBatchSize(), hydrationProperties.getBatchMaxWait(), true)
+                .concatMap(batch -> populateBatch(batch, relations), 1);
+    }
+
+    private Flux<TaskEntity> populateBatch(List<TaskEntity> batch, Set<TaskRelation> relations) {
+        boolean author = relations.contains(TaskRelation.AUTHOR);
+        boolean assignee = relations.contains(TaskRelation.ASSIGNEE);
+        boolean observers = relations.contains(TaskRelation.OBSERVERS);
+
+        Set<String> userIds = new HashSet<>();
+        for (TaskEntity task : batch) {
+            if (author && task.getAuthorId() != null) {
+                userIds.add(task.getAuthorId());
+            }
+            if (assignee && task.getAssigneeId() != null) {
+                userIds.add(task.getAssigneeId());
+            }
+            if (observers && task.getObserverIds() != null) {
+                userIds.addAll(task.getObserverIds());
+            }
+        }
+
+        Flux<TaskEntity> populated = Flux.deferContextual(context -> UserLookupMemo.from(context)
+                        .users(userIds, userService::findAllById))
+                .collectMap(UserEntity::getId)
+                .flatMapIterable(users -> {
+                    batch.forEach(task -> attachUsers(task, users, author, assignee, observers));
+                    return batch;
+                });
+        return appMetrics.time(populated, AppMetrics.HYDRATION, "mode", "batch");
+    }
+
+    private void attachUsers(TaskEntity task, Map<String, UserEntity> users,
+                             boolean author, boolean assignee, boolean observers) {
+        if (author) {
+            task.setAuthor(task.getAuthorId() == null ? null : users.get(task.getAuthorId()));
+        }
+        if (assignee) {
+            task.setAssignee(task.getAssigneeId() == null ? null : users.get(task.getAssigneeId()));
+        }
+        if (!observers) {
+            return;
+        }
+
+        Set<UserEntity> observerUsers = new HashSet<>();
+        if (task.getObserverIds() != null) {
+            for (String observerId : task.getObserverIds()) {
+                UserEntity observer = users.get(observerId);
+                if (observer != null) {
+                    observerUsers.add(observer);
+                }
+            }
+        }
+        task.setObservers(observerUsers);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.springreact.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.example.springreact.configuration.UserCacheProperties;
+import org.example.springreact.entity.UserEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Component
+public class UserCache {
+    private final AsyncCache<String, UserEntity> usersById;
+    private final AsyncCache<String, UserEntity> usersByName;
+
+    @Autowired
+    public UserCache(UserCacheProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    UserCache(UserCacheProperties properties, Ticker ticker) {
+        this.usersById = newCache(properties, ticker);
+        this.usersByName = newCache(properties, ticker);
+    }
+
+    public Mono<UserEntity> getById(String id, Function<String, Mono<UserEntity>> loader) {
+        return get(usersById, id, loader);
+    }
+
+    public Mono<UserEntity> getByName(String username, Function<String, Mono<UserEntity>> loader) {
+        return get(usersByName, username, loader);
+    }
+
+    public Mono<Map<String, UserEntity>> getAllById(Collection<String> ids,
+                                                    Function<Collection<String>, Flux<UserEntity>> loader) {
+        return Mono.fromFuture(() -> usersById.getAll(ids, (missingIds, executor) -> loader.apply(Set.copyOf(missingIds))
+                .collectMap(UserEntity::getId)
+                .toFuture()).copy());
+    }
+
+    public void invalidate(String id) {
+        if (id == null) {
+            return;
+        }
+        usersById.synchronous().invalidate(id);
+        usersByName.synchronous().asMap().values().removeIf(user -> id.equals(user.getId()));
+    }
+
+    public void invalidateAll() {
+        usersById.synchronous().invalidateAll();
+        usersByName.synchronous().invalidateAll();
+    }
+
+    public long hitCount() {
+        return usersById.synchronous().stats().hitCount() + usersByName.synchronous().stats().hitCount();
+    }
+
+    public long missCount() {
+        return usersById.synchronous().stats().missCount() + usersByName.synchronous().stats().missCount();
+    }
+
+    private static Mono<UserEntity> get(AsyncCache<String, UserEntity> cache, String key,
+                                        Function<String, Mono<UserEntity>> loader) {
+        if (key == null) {
+            return loader.apply(null);
+        }
+        // copy() keeps a cancelled subscriber from cancelling the load shared with concurrent callers
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.apply(k).toFuture()).copy());
+    }
+
+    private static AsyncCache<String, UserEntity> newCache(UserCacheProperties properties, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+    }
+}
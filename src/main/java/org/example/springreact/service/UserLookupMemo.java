@@ -0,0 +1,96 @@
+package org.example.springreact.service;
+
+import org.example.springreact.dto.UserResponse;
+import org.example.springreact.entity.UserEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class UserLookupMemo {
+    // streams run without a memo in the context, so their lookups are not retained for the life of the stream
+    private static final UserLookupMemo PASS_THROUGH = new UserLookupMemo(false);
+
+    private final ConcurrentMap<String, Mono<UserEntity>> users = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, UserResponse> responses = new ConcurrentHashMap<>();
+    private final boolean retaining;
+
+    public UserLookupMemo() {
+        this(true);
+    }
+
+    private UserLookupMemo(boolean retaining) {
+        this.retaining = retaining;
+    }
+
+    public static Context attach(Context context) {
+        return context.put(UserLookupMemo.class, new UserLookupMemo());
+    }
+
+    public static UserLookupMemo from(ContextView context) {
+        return context.<UserLookupMemo>getOrEmpty(UserLookupMemo.class).orElse(PASS_THROUGH);
+    }
+
+    public static <T, R> Flux<R> map(Flux<T> source, BiFunction<T, UserLookupMemo, R> mapper) {
+        return source.transformDeferredContextual((values, context) -> {
+            UserLookupMemo memo = from(context);
+            return values.map(value -> mapper.apply(value, memo));
+        });
+    }
+
+    public static <T, R> Mono<R> map(Mono<T> source, BiFunction<T, UserLookupMemo, R> mapper) {
+        return source.transformDeferredContextual((value, context) -> {
+            UserLookupMemo memo = from(context);
+            return value.map(v -> mapper.apply(v, memo));
+        });
+    }
+
+    public Mono<UserEntity> user(String id, Function<String, Mono<UserEntity>> loader) {
+        if (id == null || !retaining) {
+            return loader.apply(id);
+        }
+        return users.computeIfAbsent(id, key -> loader.apply(key).cache());
+    }
+
+    public Flux<UserEntity> users(Collection<String> ids, Function<Collection<String>, Flux<UserEntity>> loader) {
+        if (!retaining) {
+            return loader.apply(ids);
+        }
+        List<Mono<UserEntity>> known = new ArrayList<>();
+        Set<String> missing = new HashSet<>();
+        for (String id : ids) {
+            Mono<UserEntity> user = users.get(id);
+            if (user != null) {
+                known.add(user);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Flux.merge(known);
+        }
+        Flux<UserEntity> loaded = loader.apply(missing)
+                .collectMap(UserEntity::getId)
+                .doOnNext(found -> missing.forEach(id -> users.putIfAbsent(id, Mono.justOrEmpty(found.get(id)))))
+                .flatMapIterable(Map::values);
+        return Flux.merge(Flux.merge(known), loaded);
+    }
+
+    public UserResponse response(UserEntity user, Function<UserEntity, UserResponse> mapper) {
+        if (user.getId() == null || !retaining) {
+            return mapper.apply(user);
+        }
+        return responses.computeIfAbsent(user.getId(), id -> mapper.apply(user));
+    }
+}
@@ -1,50 +1,149 @@
 package org.example.springreact.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.springreact.configuration.PaginationProperties;
 import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.PageCursor;
+import org.example.springreact.repository.ReadRouting;
 import org.example.springreact.repository.UserRepository;
-import org.example.springreact.utils.BeanUtils;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.example.springreact.security.PasswordHashingScheduler;
+import org.example.springreact.utils.BodyMediaTypes;
+import org.example.springreact.utils.ETags;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingScheduler passwordHashingScheduler;
+    private final UserCache userCache;
+    private final PaginationProperties paginationProperties;
 
     public Flux<UserEntity> findAll() {
-        return userRepository.findAll();
+        return userRepository.streamAll(paginationProperties.getStreamBatchSize());
+    }
+
+    public Mono<CursorPage<UserEntity>> findPage(PageCursor after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        return userRepository.findPage(after, pageSize + 1)
+                .collectList()
+                .map(users -> CursorPage.of(users, pageSize, user -> new PageCursor(user.getCreatedAt(), user.getId())));
     }
 
     public Mono<UserEntity> findById(String id) {
-        return userRepository.findById(id);
+        // the cache is shared, so it is only ever filled from the primary
+        return Mono.deferContextual(context ->
+                userCache.getById(id, key -> userRepository.findById(key)
+                        .contextWrite(ReadRouting::preferPrimary)
+                        .contextWrite(context)));
+    }
+
+    public Flux<UserEntity> findAllById(Collection<String> ids) {
+        return Mono.deferContextual(context ->
+                        userCache.getAllById(ids, keys -> userRepository.findAllById(keys)
+                                .contextWrite(ReadRouting::preferPrimary)
+                                .contextWrite(context)))
+                .flatMapIterable(Map::values);
+    }
+
+    public String pageTag(CursorPage<UserEntity> page, MediaType bodyType) {
+        List<Object> parts = new ArrayList<>();
+        for (UserEntity user : page.getContent()) {
+            parts.add(user.getId());
+            parts.add(user.getVersion());
+        }
+        parts.add(page.getNextCursor());
+        parts.add(bodyType);
+        return ETags.of(parts.toArray());
+    }
+
+    public Mono<String> findCollectionTag(String variant) {
+        return userRepository.collectionVersion()
+                .map(version -> ETags.of(version.getCount(), version.getLastUpdatedAt(), variant));
+    }
+
+    public String entityTag(UserEntity user, MediaType bodyType) {
+        return ETags.of(user.getId(), user.getVersion(), bodyType);
     }
 
     public Mono<UserEntity> save(UserEntity user) {
         user.setId(UUID.randomUUID().toString());
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        user.setCreatedAt(Instant.now());
+        user.setUpdatedAt(user.getCreatedAt());
+        return passwordHashingScheduler.encode(user.getPassword())
+                .flatMap(encodedPassword -> {
+                    user.setPassword(encodedPassword);
+                    return userRepository.save(user);
+                })
+                .onErrorMap(DuplicateKeyException.class, UserService::usernameTaken)
+                .doOnSuccess(saved -> userCache.invalidate(user.getId()));
     }
 
     public Mono<UserEntity> update(String id, UserEntity user) {
-        return findById(id).flatMap(userForUpdate -> {
-            BeanUtils.copyNonNullProperties(user, userForUpdate);
-            userForUpdate.setPassword(passwordEncoder.encode(user.getPassword()));
-            return userRepository.save(userForUpdate);
-        });
+        return update(id, user, List.of());
+    }
+
+    public Mono<UserEntity> update(String id, UserEntity user, List<String> ifMatch) {
+        Mono<UserEntity> patch = Mono.just(user);
+        if (!ifMatch.isEmpty()) {
+            patch = findById(id)
+                    .flatMap(current -> {
+                        if (current.getVersion() == null || !matchesStrong(ifMatch, current)) {
+                            return Mono.error(new OptimisticLockingFailureException("User " + id + " does not match If-Match"));
+                        }
+                        user.setVersion(current.getVersion());
+                        return Mono.just(user);
+                    });
+        }
+        if (user.getPassword() != null) {
+            patch = patch.flatMap(p -> passwordHashingScheduler.encode(p.getPassword())
+                    .map(encodedPassword -> {
+                        p.setPassword(encodedPassword);
+                        return p;
+                    }));
+        }
+        return patch.flatMap(p -> userRepository.updateNonNullFields(id, p))
+                .onErrorMap(DuplicateKeyException.class, UserService::usernameTaken)
+                .doOnError(OptimisticLockingFailureException.class, conflict -> userCache.invalidate(id))
+                .onErrorMap(OptimisticLockingFailureException.class, UserService::preconditionFailed)
+                .doOnSuccess(updated -> userCache.invalidate(id));
     }
 
     public Mono<Void> deleteById(String id) {
-        return userRepository.deleteById(id);
+        return userRepository.deleteById(id)
+                .doOnSuccess(v -> userCache.invalidate(id));
     }
 
     public Mono<UserEntity> findByName(String userName) {
-        return userRepository.findByUsername(userName)
+        return userCache.getByName(userName, userRepository::findByUsername)
                 .switchIfEmpty(Mono.error(new RuntimeException("Username not found!")));
     }
+
+    private static ResponseStatusException usernameTaken(Throwable cause) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Username already exists", cause);
+    }
+
+    private boolean matchesStrong(List<String> ifMatch, UserEntity current) {
+        return BodyMediaTypes.ALL.stream()
+                .anyMatch(bodyType -> ETags.matchesStrong(ifMatch, entityTag(current, bodyType)));
+    }
+
+    private static ResponseStatusException preconditionFailed(Throwable cause) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "User has been modified", cause);
+    }
 }
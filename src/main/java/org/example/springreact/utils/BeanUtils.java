@@ -1,24 +1,22 @@
 package org.example.springreact.utils;
 
-import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 
-import java.lang.reflect.Field;
-
 @UtilityClass
 public class BeanUtils {
-    @SneakyThrows
-    public void copyNonNullProperties(Object source, Object destination) {
-        Class<?> clazz = source.getClass();
-        Field[] fields = clazz.getDeclaredFields();
-
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Object value = field.get(source);
+    private final ClassValue<PropertyCopier> COPIERS = new ClassValue<>() {
+        @Override
+        protected PropertyCopier computeValue(Class<?> type) {
+            return PropertyCopier.forType(type);
+        }
+    };
 
-            if (value != null) {
-                field.set(destination, value);
-            }
+    public void copyNonNullProperties(Object source, Object destination) {
+        Class<?> type = source.getClass();
+        if (!type.isInstance(destination)) {
+            throw new IllegalArgumentException("Cannot copy " + type.getName() + " properties to "
+                    + destination.getClass().getName());
         }
+        COPIERS.get(type).copyNonNull(source, destination);
     }
 }
@@ -0,0 +1,27 @@
+package org.example.springreact.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+@UtilityClass
+public class BodyMediaTypes {
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    public static final List<MediaType> ALL = List.of(MediaType.APPLICATION_JSON, APPLICATION_SMILE);
+
+    public MediaType select(List<MediaType> accept) {
+        for (MediaType requested : accept) {
+            if (requested.isWildcardType() || requested.isWildcardSubtype()) {
+                continue;
+            }
+            if (APPLICATION_SMILE.isCompatibleWith(requested)) {
+                return APPLICATION_SMILE;
+            }
+            if (MediaType.APPLICATION_JSON.isCompatibleWith(requested)) {
+                return MediaType.APPLICATION_JSON;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
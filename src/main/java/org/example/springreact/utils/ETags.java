@@ -0,0 +1,56 @@
+package org.example.springreact.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class ETags {
+    public String of(Object... parts) {
+        return "\"" + digest(parts) + "\"";
+    }
+
+    // the tag starts with the digest of the state, so every variant of one version shares that prefix
+    public String ofVariant(String state, Object... variant) {
+        return "\"" + digest(state) + "-" + digest(variant) + "\"";
+    }
+
+    public boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || etag.equals(candidate) || ("W/" + etag).equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matchesState(List<String> ifMatch, String state) {
+        String prefix = "\"" + digest(state) + "-";
+        for (String candidate : ifMatch) {
+            if ("*".equals(candidate) || candidate.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matchesStrong(List<String> ifMatch, String etag) {
+        for (String candidate : ifMatch) {
+            if ("*".equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String digest(Object... parts) {
+        String value = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.springreact.utils;
+
+import lombok.SneakyThrows;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+final class PropertyCopier {
+    private static final List<Class<? extends Annotation>> SKIPPED_ANNOTATIONS =
+            List.of(Id.class, ReadOnlyProperty.class, Transient.class, Version.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Function<Object, Object>[] getters;
+    private final BiConsumer<Object, Object>[] setters;
+
+    private PropertyCopier(Function<Object, Object>[] getters, BiConsumer<Object, Object>[] setters) {
+        this.getters = getters;
+        this.setters = setters;
+    }
+
+    void copyNonNull(Object source, Object destination) {
+        for (int i = 0; i < getters.length; i++) {
+            Object value = getters[i].apply(source);
+            if (value != null) {
+                setters[i].accept(destination, value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static PropertyCopier forType(Class<?> type) {
+        List<Function<Object, Object>> getters = new ArrayList<>();
+        List<BiConsumer<Object, Object>> setters = new ArrayList<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || isSkipped(field)) {
+                    continue;
+                }
+                PropertyDescriptor property = org.springframework.beans.BeanUtils.getPropertyDescriptor(type, field.getName());
+                if (property == null || property.getReadMethod() == null || property.getWriteMethod() == null) {
+                    continue;
+                }
+                getters.add(getter(property.getReadMethod()));
+                setters.add(setter(property.getWriteMethod()));
+            }
+        }
+
+        return new PropertyCopier(getters.toArray(Function[]::new), setters.toArray(BiConsumer[]::new));
+    }
+
+    private static boolean isSkipped(Field field) {
+        return SKIPPED_ANNOTATIONS.stream().anyMatch(field::isAnnotationPresent);
+    }
+
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private static Function<Object, Object> getter(Method method) {
+        MethodHandle handle = LOOKUP.unreflect(method);
+        return (Function<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap())
+                .getTarget()
+                .invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private static BiConsumer<Object, Object> setter(Method method) {
+        MethodHandle handle = LOOKUP.unreflect(method);
+        return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        handle.type().wrap().changeReturnType(void.class))
+                .getTarget()
+                .invoke();
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.springreact.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Optional;
+
+@UtilityClass
+public class StreamingMediaTypes {
+    private static final List<MediaType> STREAMING = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    public Optional<MediaType> select(List<MediaType> accept) {
+        for (MediaType requested : accept) {
+            if (requested.isWildcardType() || requested.isWildcardSubtype()) {
+                continue;
+            }
+            for (MediaType streaming : STREAMING) {
+                if (streaming.isCompatibleWith(requested)) {
+                    return Optional.of(streaming);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
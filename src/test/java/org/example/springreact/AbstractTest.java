@@ -1,11 +1,15 @@
 package org.example.springreact;
 
+import org.example.springreact.dto.TokenResponse;
 import org.example.springreact.entity.TaskEntity;
 import org.example.springreact.entity.UserEntity;
 import org.example.springreact.model.RoleType;
 import org.example.springreact.model.TaskStatus;
+import org.example.springreact.model.TaskView;
 import org.example.springreact.repository.TaskRepository;
 import org.example.springreact.repository.UserRepository;
+import org.example.springreact.service.SingleFlight;
+import org.example.springreact.service.UserCache;
 import org.example.springreact.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +24,7 @@ import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import reactor.core.publisher.Flux;
+import reactor.util.function.Tuple2;
 
 import java.util.*;
 
@@ -52,9 +57,15 @@ public class AbstractTest {
     @Autowired
     protected UserService userService;
 
+    @Autowired
+    protected UserCache userCache;
+
     @Autowired
     protected TaskRepository taskRepository;
 
+    @Autowired
+    protected SingleFlight<Tuple2<String, TaskView>, TaskEntity> taskSingleFlight;
+
     @Autowired
     protected PasswordEncoder passwordEncoder;
 
@@ -81,8 +92,8 @@ public class AbstractTest {
 
         userRepository.saveAll(
                 Flux.just(
-                        new UserEntity(FIRST_USER_ID, "Name 1", "mail1@m.ru", passwordEncoder.encode("111"), Set.of(RoleType.ROLE_USER)),
-                        new UserEntity(SECOND_USER_ID, "Name 2", "mail2@m.ru", passwordEncoder.encode("222"), Set.of(RoleType.ROLE_MANAGER))
+                        createUser(FIRST_USER_ID, "Name 1", "mail1@m.ru", "111", RoleType.ROLE_USER),
+                        createUser(SECOND_USER_ID, "Name 2", "mail2@m.ru", "222", RoleType.ROLE_MANAGER)
                 )
         ).thenMany(
                 taskRepository.saveAll(
@@ -94,10 +105,33 @@ public class AbstractTest {
         ).blockLast();
     }
 
+    private UserEntity createUser(String id, String username, String email, String password, RoleType role) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode(password));
+        user.setRoles(Set.of(role));
+        return user;
+    }
+
+    protected String obtainBearerToken(String basicAuthorization) {
+        TokenResponse token = webTestClient.post().uri("/api/auth/token")
+                .header("Authorization", basicAuthorization)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TokenResponse.class)
+                .returnResult()
+                .getResponseBody();
+        return "Bearer " + token.getAccessToken();
+    }
+
     @AfterEach
     public void afterEach() {
         userRepository.deleteAll()
                 .then(taskRepository.deleteAll())
                 .block();
+        userCache.invalidateAll();
+        taskSingleFlight.forgetAll();
     }
 }
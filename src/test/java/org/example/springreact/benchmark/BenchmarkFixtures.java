@@ -0,0 +1,74 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.RoleType;
+import org.example.springreact.model.TaskStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class BenchmarkFixtures {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    static Map<String, UserEntity> users(int count) {
+        Map<String, UserEntity> users = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            UserEntity user = new UserEntity();
+            user.setId("user-" + i);
+            user.setUsername("User " + i);
+            user.setEmail("user" + i + "@example.org");
+            user.setPassword("$2a$12$0123456789012345678901234567890123456789012345678901");
+            user.setRoles(new HashSet<>(Set.of(i % 10 == 0 ? RoleType.ROLE_MANAGER : RoleType.ROLE_USER)));
+            user.setCreatedAt(NOW.plusSeconds(i));
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    static TaskEntity task(int index, int observers, int userCount) {
+        TaskEntity task = new TaskEntity();
+        task.setId("task-" + index);
+        task.setName("Task " + index);
+        task.setDescription("Description of task " + index);
+        task.setStatus(TaskStatus.values()[index % TaskStatus.values().length]);
+        task.setCreatedAt(NOW.plusSeconds(index));
+        task.setUpdatedAt(NOW.plusSeconds(index));
+        task.setAuthorId("user-" + (index % userCount));
+        task.setAssigneeId("user-" + ((index + 1) % userCount));
+
+        Set<String> observerIds = new HashSet<>();
+        for (int i = 0; i < observers; i++) {
+            observerIds.add("user-" + ((index + i) % userCount));
+        }
+        task.setObserverIds(observerIds);
+        return task;
+    }
+
+    static List<TaskEntity> tasks(int count, int observers, int userCount) {
+        List<TaskEntity> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i, observers, userCount));
+        }
+        return tasks;
+    }
+
+    static TaskEntity hydrated(TaskEntity task, Map<String, UserEntity> users) {
+        task.setAuthor(users.get(task.getAuthorId()));
+        task.setAssignee(users.get(task.getAssigneeId()));
+        Set<UserEntity> observers = new HashSet<>();
+        for (String observerId : task.getObserverIds()) {
+            observers.add(users.get(observerId));
+        }
+        task.setObservers(observers);
+        return task;
+    }
+}
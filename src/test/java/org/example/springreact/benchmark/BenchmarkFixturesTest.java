@@ -0,0 +1,61 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.utils.BeanUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BenchmarkFixturesTest {
+    private static final int OBSERVERS = 10;
+
+    private final Map<String, UserEntity> users = BenchmarkFixtures.users(OBSERVERS);
+
+    @Test
+    public void whenFindByIdThroughFixture_thenHydrateLikeReference() {
+        TaskEntity task = BenchmarkFixtures.task(0, OBSERVERS, users.size());
+        HydrationFixture fixture = new HydrationFixture(users, Map.of(task.getId(), task));
+
+        TaskEntity found = fixture.taskService.findById(task.getId()).block();
+
+        assertEquals(BenchmarkFixtures.hydrated(BenchmarkFixtures.task(0, OBSERVERS, users.size()), users), found);
+        assertEquals(OBSERVERS, found.getObservers().size());
+    }
+
+    @Test
+    public void whenFindAllThroughFixture_thenHydrateEveryTask() {
+        Map<String, TaskEntity> tasks = BenchmarkFixtures.tasks(100, OBSERVERS, users.size()).stream()
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        HydrationFixture fixture = new HydrationFixture(users, tasks);
+
+        List<TaskEntity> found = fixture.taskService.findAll().collectList().block();
+
+        assertEquals(100, found.size());
+        assertTrue(found.stream().allMatch(task -> task.getAuthor() == users.get(task.getAuthorId())
+                && task.getAssignee() == users.get(task.getAssigneeId())
+                && task.getObservers().size() == task.getObserverIds().size()));
+    }
+
+    @Test
+    public void whenCopyWithGeneratedAndReflectiveCopier_thenProduceSameEntity() throws IllegalAccessException {
+        // relations are read-only and skipped by the generated copier, so the patch carries persistent fields only
+        TaskEntity patch = BenchmarkFixtures.task(1, OBSERVERS, users.size());
+        patch.setId(null);
+        TaskEntity generated = BenchmarkFixtures.task(0, 0, users.size());
+        TaskEntity reflective = BenchmarkFixtures.task(0, 0, users.size());
+
+        BeanUtils.copyNonNullProperties(patch, generated);
+        ReflectiveBeanUtils.copyNonNullProperties(patch, reflective);
+
+        assertEquals(reflective, generated);
+        assertEquals("task-0", generated.getId());
+        assertEquals(patch.getName(), generated.getName());
+        assertEquals(patch.getObserverIds(), generated.getObserverIds());
+    }
+}
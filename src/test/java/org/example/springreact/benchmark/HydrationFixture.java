@@ -0,0 +1,37 @@
+package org.example.springreact.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.springreact.configuration.ConcurrencyProperties;
+import org.example.springreact.configuration.HydrationProperties;
+import org.example.springreact.configuration.PaginationProperties;
+import org.example.springreact.configuration.UserCacheProperties;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.metrics.AppMetrics;
+import org.example.springreact.service.SingleFlight;
+import org.example.springreact.service.TaskService;
+import org.example.springreact.service.UserBatchLoader;
+import org.example.springreact.service.UserCache;
+import org.example.springreact.service.UserService;
+
+import java.time.Duration;
+import java.util.Map;
+
+final class HydrationFixture {
+    final UserService userService;
+    final UserBatchLoader userBatchLoader;
+    final TaskService taskService;
+
+    HydrationFixture(Map<String, UserEntity> users, Map<String, TaskEntity> tasks) {
+        HydrationProperties hydrationProperties = new HydrationProperties();
+        PaginationProperties paginationProperties = new PaginationProperties();
+        userService = new UserService(InMemoryRepositories.users(users), null,
+                new UserCache(new UserCacheProperties()), paginationProperties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AppMetrics appMetrics = new AppMetrics(meterRegistry);
+        userBatchLoader = new UserBatchLoader(userService, hydrationProperties, appMetrics);
+        taskService = new TaskService(InMemoryRepositories.tasks(tasks), userService, userBatchLoader,
+                hydrationProperties, paginationProperties, new ConcurrencyProperties(),
+                new SingleFlight<>("task", Duration.ZERO, meterRegistry), appMetrics);
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.springreact.benchmark;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.repository.TaskRepository;
+import org.example.springreact.repository.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class InMemoryRepositories {
+    private InMemoryRepositories() {
+    }
+
+    static TaskRepository tasks(Map<String, TaskEntity> tasks) {
+        return stub(TaskRepository.class, tasks);
+    }
+
+    static UserRepository users(Map<String, UserEntity> users) {
+        return stub(UserRepository.class, users);
+    }
+
+    private static <R> R stub(Class<R> repositoryType, Map<String, ?> documents) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (self, method, args) -> switch (method.getName()) {
+                    case "findById" -> args[0] instanceof String id
+                            ? Mono.justOrEmpty(documents.get(id))
+                            : unsupported(method.getName());
+                    case "findAllById" -> args[0] instanceof Iterable<?> ids
+                            ? Flux.fromIterable(lookup(documents, ids))
+                            : unsupported(method.getName());
+                    case "findAll", "streamAll" -> Flux.fromIterable(documents.values());
+                    case "count" -> Mono.just((long) documents.size());
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    case "toString" -> "InMemory" + repositoryType.getSimpleName();
+                    default -> unsupported(method.getName());
+                });
+        return repositoryType.cast(proxy);
+    }
+
+    private static List<Object> lookup(Map<String, ?> documents, Iterable<?> ids) {
+        List<Object> found = new ArrayList<>();
+        for (Object id : ids) {
+            Object document = documents.get(id);
+            if (document != null) {
+                found.add(document);
+            }
+        }
+        return found;
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException(method + " is not available in the in-memory repository");
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.springreact.benchmark;
+
+import java.lang.reflect.Field;
+
+final class ReflectiveBeanUtils {
+    private ReflectiveBeanUtils() {
+    }
+
+    static void copyNonNullProperties(Object source, Object destination) throws IllegalAccessException {
+        Class<?> clazz = source.getClass();
+        Field[] fields = clazz.getDeclaredFields();
+
+        for (Field field : fields) {
+            field.setAccessible(true);
+            Object value = field.get(source);
+
+            if (value != null) {
+                field.set(destination, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.springreact.controller;
+
+import org.example.springreact.AbstractTest;
+import org.example.springreact.dto.TokenResponse;
+import org.example.springreact.dto.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuthControllerTest extends AbstractTest {
+    @Test
+    public void whenIssueTokenWithoutCredentials_thenReturnError() {
+        webTestClient.post().uri("/api/auth/token")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void whenIssueTokenWithWrongPassword_thenReturnError() {
+        webTestClient.post().uri("/api/auth/token")
+                .header("Authorization", "Basic " + Base64.getEncoder().encodeToString("Name 1:wrong".getBytes()))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void whenIssueTokenWithCredentials_thenReturnToken() {
+        webTestClient.post().uri("/api/auth/token")
+                .header("Authorization", FIRST_USER_AUTHORIZATION)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TokenResponse.class)
+                .value(response -> {
+                    assertNotNull(response.getAccessToken());
+                    assertEquals("Bearer", response.getTokenType());
+                    assertNotNull(response.getExpiresAt());
+                });
+    }
+
+    @Test
+    public void whenRequestWithToken_thenReturnData() {
+        webTestClient.get().uri("/api/users/{id}", FIRST_USER_ID)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .value(response -> assertEquals(FIRST_USER_ID, response.getId()));
+    }
+
+    @Test
+    public void whenRequestWithTamperedToken_thenReturnError() {
+        String token = obtainBearerToken(FIRST_USER_AUTHORIZATION);
+
+        webTestClient.get().uri("/api/users/{id}", FIRST_USER_ID)
+                .header("Authorization", token.substring(0, token.length() - 2) + "xx")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void whenRequestWithBasicCredentials_thenReturnError() {
+        webTestClient.get().uri("/api/users/{id}", FIRST_USER_ID)
+                .header("Authorization", FIRST_USER_AUTHORIZATION)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void whenScrapePrometheusAnonymously_thenReturnMetrics() {
+        webTestClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertTrue(body.contains("jvm_memory_used_bytes")));
+    }
+
+    @Test
+    public void whenGetOtherActuatorEndpointAnonymously_thenReturnError() {
+        webTestClient.get().uri("/actuator/metrics")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetOtherActuatorEndpointAsUser_thenReturnForbidden() {
+        webTestClient.get().uri("/actuator/metrics")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
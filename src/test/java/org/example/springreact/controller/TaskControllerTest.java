@@ -1,20 +1,52 @@
 package org.example.springreact.controller;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.springreact.AbstractTest;
+import org.example.springreact.dto.ObserverResponse;
+import org.example.springreact.dto.TaskImportResult;
 import org.example.springreact.dto.TaskResponse;
 import org.example.springreact.dto.UpsertTaskRequest;
 import org.example.springreact.dto.UserResponse;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.metrics.AppMetrics;
+import org.example.springreact.metrics.MongoCommandMetricsListener;
+import org.example.springreact.model.CursorPage;
+import org.example.springreact.model.TaskImportStatus;
 import org.example.springreact.model.TaskStatus;
+import org.example.springreact.service.TaskService;
+import org.example.springreact.utils.BodyMediaTypes;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TaskControllerTest extends AbstractTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
     @Test
     public void whenGetAllTasksWithoutRole_thenReturnError() {
         webTestClient.get().uri("/api/tasks")
@@ -32,6 +64,273 @@ public class TaskControllerTest extends AbstractTest {
                 .hasSize(2);
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksPageWithRole_thenReturnPageAndNextCursor() {
+        var firstPage = webTestClient.get().uri("/api/tasks?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .returnResult();
+        String cursor = firstPage.getResponseHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+        String firstTaskId = firstPage.getResponseBody().get(0).getId();
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("limit", 1)
+                        .queryParam("after", cursor)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertNotEquals(firstTaskId, tasks.get(0).getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksFilteredByStatus_thenReturnMatchingTasks() {
+        webTestClient.get().uri("/api/tasks?status=TODO")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> {
+                    assertEquals(SECOND_TASK_ID, tasks.get(0).getId());
+                    assertEquals(2, tasks.get(0).getObservers().size());
+                });
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksFilteredByObserverAndAuthor_thenReturnMatchingTasks() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("observerId", FIRST_USER_ID)
+                        .queryParam("authorId", SECOND_USER_ID)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(SECOND_TASK_ID, tasks.get(0).getId()));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("observerId", FIRST_USER_ID)
+                        .queryParam("authorId", FIRST_USER_ID)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(0);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithSparseFields_thenReturnOnlyRequestedFields() {
+        webTestClient.get().uri("/api/tasks?fields=id,name,status&status=TODO")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(SECOND_TASK_ID)
+                .jsonPath("$[0].name").isEqualTo("Task 2")
+                .jsonPath("$[0].status").isEqualTo("TODO")
+                .jsonPath("$[0].description").doesNotExist()
+                .jsonPath("$[0].createdAt").doesNotExist()
+                .jsonPath("$[0].author").doesNotExist()
+                .jsonPath("$[0].observers").doesNotExist();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTaskByIdWithoutSparseFields_thenKeepNullProperties() {
+        webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"createdAt\":null"));
+                    assertFalse(body.contains("score"));
+                });
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTaskByIdWithExpand_thenHydrateOnlyRequestedRelations() {
+        webTestClient.get().uri("/api/tasks/{id}?expand=author", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskResponse.class)
+                .value(response -> {
+                    assertEquals("Description 2", response.getDescription());
+                    assertEquals(SECOND_USER_ID, response.getAuthor().getId());
+                    assertNull(response.getAssignee());
+                    assertNull(response.getObservers());
+                });
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenSearchTasks_thenReturnHydratedMatchesByRelevance() {
+        webTestClient.get().uri("/api/tasks/search?q=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> {
+                    assertEquals(SECOND_TASK_ID, tasks.get(0).getId());
+                    assertNotNull(tasks.get(0).getScore());
+                    assertEquals(SECOND_USER_ID, tasks.get(0).getAuthor().getId());
+                    assertEquals(2, tasks.get(0).getObservers().size());
+                });
+
+        webTestClient.get().uri("/api/tasks/search?q=task&status=IN_PROGRESS")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(FIRST_TASK_ID, tasks.get(0).getId()));
+
+        webTestClient.get().uri("/api/tasks/search?q=task&limit=1&page=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenSearchTasksWithoutText_thenReturnBadRequest() {
+        webTestClient.get().uri("/api/tasks/search?q=")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithInvalidSort_thenReturnBadRequest() {
+        webTestClient.get().uri("/api/tasks?sort=name")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithInvalidCursor_thenReturnBadRequest() {
+        webTestClient.get().uri("/api/tasks?after=broken")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksAcceptingSmile_thenReturnSmileWithDistinctETag() {
+        String jsonTag = webTestClient.get().uri("/api/tasks?status=TODO")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/tasks?status=TODO")
+                .accept(BodyMediaTypes.APPLICATION_SMILE)
+                .ifNoneMatch(jsonTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BodyMediaTypes.APPLICATION_SMILE)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(SECOND_TASK_ID, tasks.get(0).getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTaskByIdWithMatchingETag_thenReturnNotModified() {
+        String etag = webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        assertNotNull(etag);
+
+        webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+
+        webTestClient.get().uri("/api/tasks/{id}?fields=name", SECOND_TASK_ID)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetSparseTaskByIdWithMatchingETag_thenReturnNotModified() {
+        String etag = webTestClient.get().uri("/api/tasks/{id}?fields=name", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/tasks/{id}?fields=name", SECOND_TASK_ID)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithStaleETag_thenReturnFreshList() {
+        String etag = webTestClient.get().uri("/api/tasks?status=TODO")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        assertNotNull(etag);
+
+        webTestClient.get().uri("/api/tasks?status=TODO")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        StepVerifier.create(taskRepository.deleteById(SECOND_TASK_ID))
+                .verifyComplete();
+
+        webTestClient.get().uri("/api/tasks?status=TODO")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("ETag", value -> assertNotEquals(etag, value));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksAfterAuthorChanges_thenReturnFreshPage() {
+        String etag = webTestClient.get().uri("/api/tasks?status=TODO")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        Query query = Query.query(Criteria.where("id").is(SECOND_USER_ID));
+        mongoTemplate.updateFirst(query, new Update().set("username", "Renamed").inc("version", 1), UserEntity.class).block();
+        userCache.invalidate(SECOND_USER_ID);
+
+        webTestClient.get().uri("/api/tasks?status=TODO")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .value(tasks -> assertEquals("Renamed", tasks.get(0).getAuthor().getUsername()));
+    }
+
     @Test
     public void whenGetTaskByIdWithoutRole_thenReturnError() {
         webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
@@ -39,6 +338,24 @@ public class TaskControllerTest extends AbstractTest {
                 .expectStatus().isUnauthorized();
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTaskById_thenRecordHydrationMappingAndMongoMetrics() {
+        webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk();
+
+        assertNotNull(meterRegistry.find(AppMetrics.HYDRATION).tag("mode", "single").timer());
+        assertNotNull(meterRegistry.find(AppMetrics.MAPPING)
+                .tag("mapper", "TaskMapper")
+                .tag("method", "entityToResponse")
+                .timer());
+        assertNotNull(meterRegistry.find(MongoCommandMetricsListener.COMMANDS)
+                .tag("command", "find")
+                .tag("collection", "tasks")
+                .timer());
+    }
+
     @Test
     @WithMockUser(username = "user", roles = {"USER"})
     public void whenGetTaskByIdWithRole_thenReturnTaskById() {
@@ -64,6 +381,78 @@ public class TaskControllerTest extends AbstractTest {
                 });
     }
 
+    @Test
+    public void whenImportTasksWithAuthorization_thenReturnResultPerRecord() {
+        String body = String.join("\n",
+                "{\"name\":\"Imported 1\",\"status\":\"TODO\",\"assigneeId\":\"" + FIRST_USER_ID + "\"}",
+                "{\"name\":\"\",\"status\":\"TODO\"}",
+                "{\"name\":\"Imported 3\",\"status\":\"DONE\",\"assigneeId\":\"missing\"}",
+                "{\"name\":\"Imported 4\",\"status\":\"IN_PROGRESS\"}");
+
+        webTestClient.post().uri("/api/tasks/import")
+                .header("Authorization", obtainBearerToken(SECOND_USER_AUTHORIZATION))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskImportResult.class)
+                .value(results -> {
+                    assertEquals(4, results.size());
+                    assertEquals(List.of(0L, 1L, 2L, 3L), results.stream().map(TaskImportResult::getIndex).toList());
+                    assertEquals(TaskImportStatus.CREATED, results.get(0).getStatus());
+                    assertEquals(TaskImportStatus.REJECTED, results.get(1).getStatus());
+                    assertEquals(TaskImportStatus.REJECTED, results.get(2).getStatus());
+                    assertEquals(TaskImportStatus.CREATED, results.get(3).getStatus());
+                    assertNotNull(results.get(0).getTaskId());
+                    assertNotNull(results.get(2).getError());
+                });
+
+        StepVerifier.create(taskRepository.count())
+                .expectNext(4L)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenImportTasksWithMalformedLine_thenRejectItAndContinue() {
+        String body = String.join("\n",
+                "{\"name\":\"Imported 1\",\"status\":\"TODO\"}",
+                "{\"name\":\"Broken\",\"status\":",
+                "{\"name\":\"Imported 3\",\"status\":\"DONE\"}");
+
+        webTestClient.post().uri("/api/tasks/import")
+                .header("Authorization", obtainBearerToken(SECOND_USER_AUTHORIZATION))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskImportResult.class)
+                .value(results -> {
+                    assertEquals(List.of(0L, 1L, 2L), results.stream().map(TaskImportResult::getIndex).toList());
+                    assertEquals(TaskImportStatus.CREATED, results.get(0).getStatus());
+                    assertEquals(TaskImportStatus.REJECTED, results.get(1).getStatus());
+                    assertThat(results.get(1).getError(), containsString("line 2"));
+                    assertEquals(TaskImportStatus.CREATED, results.get(2).getStatus());
+                });
+
+        StepVerifier.create(taskRepository.count())
+                .expectNext(4L)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenImportTasksWithWrongRole_thenReturnForbidden() {
+        webTestClient.post().uri("/api/tasks/import")
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"name\":\"Imported\",\"status\":\"TODO\"}")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
     @Test
     public void whenCreateTaskWithoutRole_thenReturnError() {
         webTestClient.post().uri("/api/tasks")
@@ -86,7 +475,7 @@ public class TaskControllerTest extends AbstractTest {
         request.setAssigneeId(FIRST_USER_ID);
 
         webTestClient.post().uri("/api/tasks")
-                .header("Authorization", SECOND_USER_AUTHORIZATION)
+                .header("Authorization", obtainBearerToken(SECOND_USER_AUTHORIZATION))
                 .body(Mono.just(request), UpsertTaskRequest.class)
                 .exchange()
                 .expectStatus().isOk()
@@ -147,6 +536,102 @@ public class TaskControllerTest extends AbstractTest {
                 });
     }
 
+    @Test
+    @WithMockUser(username = "manager", roles = {"MANAGER"})
+    public void whenUpdateTaskWithStaleIfMatch_thenReturnPreconditionFailed() {
+        String etag = webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        UpsertTaskRequest request = new UpsertTaskRequest();
+        request.setName("New Task Name");
+        double conflictsBefore = conflicts();
+
+        webTestClient.post().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .ifMatch(etag)
+                .body(Mono.just(request), UpsertTaskRequest.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("ETag", value -> assertNotEquals(etag, value));
+
+        webTestClient.post().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .ifMatch(etag)
+                .body(Mono.just(request), UpsertTaskRequest.class)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        assertEquals(conflictsBefore + 1, conflicts());
+    }
+
+    @Test
+    @WithMockUser(username = "manager", roles = {"MANAGER"})
+    public void whenUpdateTaskWithIfMatchFromSparseView_thenAcceptIt() {
+        String etag = webTestClient.get().uri("/api/tasks/{id}?fields=id,name", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        UpsertTaskRequest request = new UpsertTaskRequest();
+        request.setName("New Task Name");
+
+        webTestClient.post().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .ifMatch(etag)
+                .body(Mono.just(request), UpsertTaskRequest.class)
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.post().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .ifMatch(etag)
+                .body(Mono.just(request), UpsertTaskRequest.class)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    @WithMockUser(username = "manager", roles = {"MANAGER"})
+    public void whenUpdateLegacyTaskWithoutVersionWithIfMatch_thenReturnPreconditionFailed() {
+        Query query = Query.query(Criteria.where("id").is(SECOND_TASK_ID));
+        mongoTemplate.updateFirst(query, new Update().unset("version"), TaskEntity.class).block();
+        String etag = webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        UpsertTaskRequest request = new UpsertTaskRequest();
+        request.setName("New Task Name");
+
+        webTestClient.post().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .ifMatch(etag)
+                .body(Mono.just(request), UpsertTaskRequest.class)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        StepVerifier.create(taskRepository.findById(SECOND_TASK_ID))
+                .assertNext(task -> assertEquals("Task 2", task.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenFindTaskByIdConcurrently_thenShareSingleLoad() {
+        double coalescedBefore = meterRegistry.counter(AppMetrics.SINGLE_FLIGHT_COALESCED, "name", "task").count();
+
+        StepVerifier.create(Flux.range(0, 20)
+                        .flatMap(i -> taskService.findById(SECOND_TASK_ID))
+                        .distinct(System::identityHashCode)
+                        .collectList())
+                .assertNext(tasks -> {
+                    assertEquals(1, tasks.size());
+                    assertEquals(2, tasks.get(0).getObservers().size());
+                })
+                .verifyComplete();
+
+        assertEquals(19.0, meterRegistry.counter(AppMetrics.SINGLE_FLIGHT_COALESCED, "name", "task").count() - coalescedBefore);
+    }
+
     @Test
     public void whenDeleteByIdWithoutRole_thenReturnError() {
         webTestClient.delete().uri("/api/tasks/{id}", FIRST_TASK_ID)
@@ -183,9 +668,47 @@ public class TaskControllerTest extends AbstractTest {
     }
 
     @Test
-    public void whenAddObserverWithAuthorization_thenReturnTask() {
+    public void whenAddObserverWithAuthorization_thenReturnAcknowledgement() {
         webTestClient.post().uri("/api/tasks/{id}/observe", FIRST_TASK_ID)
-                .header("Authorization", FIRST_USER_AUTHORIZATION)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ObserverResponse.class)
+                .isEqualTo(new ObserverResponse(FIRST_TASK_ID, FIRST_USER_ID, true));
+
+        StepVerifier.create(taskRepository.findById(FIRST_TASK_ID))
+                .assertNext(task -> assertEquals(Set.of(FIRST_USER_ID), task.getObserverIds()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenAddObserverToMissingTask_thenReturnNotFound() {
+        webTestClient.post().uri("/api/tasks/{id}/observe", "missing")
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenRemoveObserverWithAuthorization_thenReturnAcknowledgement() {
+        webTestClient.delete().uri("/api/tasks/{id}/observe", SECOND_TASK_ID)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ObserverResponse.class)
+                .isEqualTo(new ObserverResponse(SECOND_TASK_ID, FIRST_USER_ID, false));
+
+        StepVerifier.create(taskRepository.findById(SECOND_TASK_ID))
+                .assertNext(task -> assertEquals(Set.of(SECOND_USER_ID), task.getObserverIds()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenAddObserverWithHydration_thenReturnTask() {
+        webTestClient.post().uri("/api/tasks/{id}/observe?hydrate=true", FIRST_TASK_ID)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody(TaskResponse.class)
@@ -198,4 +721,12 @@ public class TaskControllerTest extends AbstractTest {
                     ));
                 });
     }
+
+    private double conflicts() {
+        Counter counter = meterRegistry.find(AppMetrics.VERSION_CONFLICTS)
+                .tag("method", "POST")
+                .tag("uri", "/api/tasks/{id}")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
 }
@@ -0,0 +1,149 @@
+package org.example.springreact.controller;
+
+import org.example.springreact.AbstractTest;
+import org.example.springreact.dto.TaskResponse;
+import org.example.springreact.model.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "app.hydration.find-all-engine=lookup",
+        "app.hydration.find-by-id-engine=lookup"
+})
+public class TaskLookupEngineTest extends AbstractTest {
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetAllTasksUnpaged_thenReturnHydratedTasks() {
+        webTestClient.get().uri("/api/tasks?unpaged=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(2)
+                .value(tasks -> tasks.forEach(task -> {
+                    assertNotNull(task.getAuthor());
+                    assertNotNull(task.getAssignee());
+                }));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksPage_thenReturnPageAndNextCursor() {
+        var firstPage = webTestClient.get().uri("/api/tasks?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .returnResult();
+        String cursor = firstPage.getResponseHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+        String firstTaskId = firstPage.getResponseBody().get(0).getId();
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("limit", 1)
+                        .queryParam("after", cursor)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> {
+                    assertNotEquals(firstTaskId, tasks.get(0).getId());
+                    assertNotNull(tasks.get(0).getAuthor());
+                });
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksPageSortedByUpdatedAtDescending_thenWalkNewestFirst() {
+        Map<String, Instant> updatedAt = Map.of(
+                FIRST_TASK_ID, Instant.parse("2024-01-01T00:00:00Z"),
+                SECOND_TASK_ID, Instant.parse("2024-02-01T00:00:00Z"));
+        taskRepository.findAll()
+                .doOnNext(task -> task.setUpdatedAt(updatedAt.get(task.getId())))
+                .flatMap(taskRepository::save)
+                .blockLast();
+
+        var firstPage = webTestClient.get().uri("/api/tasks?limit=1&sort=-updatedAt")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(SECOND_TASK_ID, tasks.get(0).getId()))
+                .returnResult();
+        String cursor = firstPage.getResponseHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("limit", 1)
+                        .queryParam("sort", "-updatedAt")
+                        .queryParam("after", cursor)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(FIRST_TASK_ID, tasks.get(0).getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksFilteredByStatus_thenReturnMatchingTasks() {
+        webTestClient.get().uri("/api/tasks?status=TODO")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> {
+                    assertEquals(SECOND_TASK_ID, tasks.get(0).getId());
+                    assertEquals(2, tasks.get(0).getObservers().size());
+                });
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksUnpagedFilteredByObserverAndAuthor_thenReturnMatchingTasks() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("unpaged", true)
+                        .queryParam("observerId", FIRST_USER_ID)
+                        .queryParam("authorId", SECOND_USER_ID)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(SECOND_TASK_ID, tasks.get(0).getId()));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/tasks")
+                        .queryParam("unpaged", true)
+                        .queryParam("observerId", FIRST_USER_ID)
+                        .queryParam("authorId", FIRST_USER_ID)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(0);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTaskById_thenReturnTaskHydratedByLookup() {
+        webTestClient.get().uri("/api/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskResponse.class)
+                .value(task -> {
+                    assertEquals(SECOND_USER_ID, task.getAuthor().getId());
+                    assertEquals(FIRST_USER_ID, task.getAssignee().getId());
+                    assertEquals(2, task.getObservers().size());
+                });
+    }
+}
@@ -4,7 +4,10 @@ import org.example.springreact.AbstractTest;
 import org.example.springreact.dto.UpsertUserRequest;
 import org.example.springreact.dto.UserResponse;
 import org.example.springreact.model.RoleType;
+import org.example.springreact.utils.BodyMediaTypes;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -58,6 +61,27 @@ public class UserControllerTest extends AbstractTest {
                 .isEqualTo(expectedData);
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetUserByIdAcceptingSmile_thenReturnSmileWithDistinctETag() {
+        String jsonTag = webTestClient.get().uri("/api/users/{id}", FIRST_USER_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .returnResult(UserResponse.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/users/{id}", FIRST_USER_ID)
+                .accept(BodyMediaTypes.APPLICATION_SMILE)
+                .ifNoneMatch(jsonTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BodyMediaTypes.APPLICATION_SMILE)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody(UserResponse.class)
+                .value(user -> assertEquals(FIRST_USER_ID, user.getId()));
+    }
+
     @Test
     public void whenCreateUser_thenReturnNewUser() {
         StepVerifier.create(userRepository.count())
@@ -88,6 +112,25 @@ public class UserControllerTest extends AbstractTest {
                 .verify();
     }
 
+    @Test
+    public void whenCreateUserWithExistingUsername_thenReturnConflict() {
+        UpsertUserRequest request = new UpsertUserRequest();
+        request.setUsername("Name 1");
+        request.setEmail("mail3@m.ru");
+        request.setPassword("111");
+        request.setRoles(Set.of(RoleType.ROLE_USER));
+
+        webTestClient.post().uri("/api/users")
+                .body(Mono.just(request), UpsertUserRequest.class)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        StepVerifier.create(userRepository.count())
+                .expectNext(2L)
+                .expectComplete()
+                .verify();
+    }
+
     @Test
     public void whenUpdateUserWithoutRole_thenReturnError() {
         webTestClient.get().uri("/api/users/{id}", FIRST_USER_ID)
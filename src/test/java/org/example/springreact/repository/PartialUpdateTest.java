@@ -0,0 +1,61 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.AbstractTest;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartialUpdateTest extends AbstractTest {
+
+    @Test
+    public void whenUpdateTaskWithPartialPatch_thenKeepOtherFieldsAndBumpVersion() {
+        TaskEntity before = taskRepository.findById(SECOND_TASK_ID).block();
+        TaskEntity patch = new TaskEntity();
+        patch.setStatus(TaskStatus.DONE);
+
+        StepVerifier.create(taskRepository.updateNonNullFields(SECOND_TASK_ID, patch))
+                .assertNext(updated -> {
+                    assertEquals(TaskStatus.DONE, updated.getStatus());
+                    assertEquals(before.getName(), updated.getName());
+                    assertEquals(before.getDescription(), updated.getDescription());
+                    assertEquals(before.getAssigneeId(), updated.getAssigneeId());
+                    assertEquals(before.getObserverIds(), updated.getObserverIds());
+                    assertEquals(before.getVersion() + 1, updated.getVersion());
+                    assertNotNull(updated.getUpdatedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenUpdateMissingTask_thenReturnEmpty() {
+        TaskEntity patch = new TaskEntity();
+        patch.setName("Missing");
+
+        StepVerifier.create(taskRepository.updateNonNullFields("missing", patch))
+                .verifyComplete();
+        StepVerifier.create(taskRepository.existsById("missing"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenUpdateUserWithoutPassword_thenKeepStoredPassword() {
+        UserEntity before = userRepository.findById(FIRST_USER_ID).block();
+        UserEntity patch = new UserEntity();
+        patch.setEmail("changed@m.ru");
+        patch.setRoles(null);
+
+        StepVerifier.create(userRepository.updateNonNullFields(FIRST_USER_ID, patch))
+                .assertNext(updated -> {
+                    assertEquals("changed@m.ru", updated.getEmail());
+                    assertEquals(before.getUsername(), updated.getUsername());
+                    assertEquals(before.getPassword(), updated.getPassword());
+                    assertEquals(before.getRoles(), updated.getRoles());
+                })
+                .verifyComplete();
+    }
+}
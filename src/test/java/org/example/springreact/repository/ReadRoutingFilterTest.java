@@ -0,0 +1,52 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.configuration.ReadRoutingProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadRoutingFilterTest {
+    private final ReadRoutingFilter filter = new ReadRoutingFilter(properties("/api/tasks", "/api/tasks/{id}"));
+
+    @Test
+    public void whenGetListedRoute_thenPreferSecondary() {
+        assertTrue(prefersSecondary(MockServerHttpRequest.get("/api/tasks").build()));
+        assertTrue(prefersSecondary(MockServerHttpRequest.get("/api/tasks/{id}", "task").build()));
+    }
+
+    @Test
+    public void whenWriteToListedRoute_thenStayOnPrimary() {
+        assertFalse(prefersSecondary(MockServerHttpRequest.post("/api/tasks").build()));
+        assertFalse(prefersSecondary(MockServerHttpRequest.put("/api/tasks/{id}", "task").build()));
+        assertFalse(prefersSecondary(MockServerHttpRequest.delete("/api/tasks/{id}", "task").build()));
+    }
+
+    @Test
+    public void whenGetUnlistedRoute_thenStayOnPrimary() {
+        assertFalse(prefersSecondary(MockServerHttpRequest.get("/api/users").build()));
+        assertFalse(prefersSecondary(MockServerHttpRequest.get("/api/tasks/{id}/observe", "task").build()));
+    }
+
+    private boolean prefersSecondary(MockServerHttpRequest request) {
+        AtomicBoolean routed = new AtomicBoolean();
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), exchange -> Mono.deferContextual(context -> {
+                    routed.set(ReadRouting.prefersSecondary(context));
+                    return Mono.empty();
+                })))
+                .verifyComplete();
+        return routed.get();
+    }
+
+    private static ReadRoutingProperties properties(String... routes) {
+        ReadRoutingProperties properties = new ReadRoutingProperties();
+        properties.setRoutes(List.of(routes));
+        return properties;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.springreact.repository;
+
+import com.mongodb.ReadPreference;
+import org.example.springreact.configuration.ReadRoutingProperties;
+import org.example.springreact.entity.TaskEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReadRoutingTest {
+    private final ReactiveMongoOperations primary = mock(ReactiveMongoOperations.class);
+    private final ReactiveMongoOperations secondary = mock(ReactiveMongoOperations.class);
+    private final ReadRouting readRouting = new ReadRouting(primary, secondary);
+
+    @Test
+    public void whenReadWithoutRoutingFlag_thenUsePrimary() {
+        when(primary.findAll(TaskEntity.class)).thenReturn(Flux.just(new TaskEntity()));
+
+        StepVerifier.create(readRouting.readMany(operations -> operations.findAll(TaskEntity.class)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verifyNoInteractions(secondary);
+    }
+
+    @Test
+    public void whenReadWithRoutingFlag_thenUseSecondary() {
+        when(secondary.findAll(TaskEntity.class)).thenReturn(Flux.just(new TaskEntity()));
+
+        StepVerifier.create(readRouting.readMany(operations -> operations.findAll(TaskEntity.class))
+                        .contextWrite(ReadRouting::preferSecondary))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    public void whenReadPreferenceIsPrimary_thenIgnoreMaxStaleness() {
+        ReadRoutingProperties properties = new ReadRoutingProperties();
+        properties.setReadPreference("primary");
+
+        assertEquals(ReadPreference.primary(), properties.resolveReadPreference());
+    }
+
+    @Test
+    public void whenReadPreferenceIsSecondaryPreferred_thenApplyMaxStaleness() {
+        ReadRoutingProperties properties = new ReadRoutingProperties();
+
+        assertEquals(ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS), properties.resolveReadPreference());
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.springreact.repository;
+
+import org.example.springreact.service.UserLookupMemo;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserLookupMemoFilterTest {
+    private final UserLookupMemoFilter filter = new UserLookupMemoFilter();
+
+    @Test
+    public void whenReadBoundedResponse_thenAttachMemo() {
+        assertTrue(memoAttached(MockServerHttpRequest.get("/api/tasks").build()));
+        assertTrue(memoAttached(MockServerHttpRequest.get("/api/functions/tasks/{id}", "task").build()));
+    }
+
+    @Test
+    public void whenReadChangeStream_thenSkipMemo() {
+        assertFalse(memoAttached(MockServerHttpRequest.get("/api/tasks/changes").build()));
+        assertFalse(memoAttached(MockServerHttpRequest.get("/api/functions/tasks/changes").build()));
+    }
+
+    @Test
+    public void whenAcceptStreamingMediaType_thenSkipMemo() {
+        assertFalse(memoAttached(MockServerHttpRequest.get("/api/tasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .build()));
+        assertFalse(memoAttached(MockServerHttpRequest.get("/api/users")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .build()));
+    }
+
+    private boolean memoAttached(MockServerHttpRequest request) {
+        AtomicBoolean attached = new AtomicBoolean();
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), exchange -> Mono.deferContextual(context -> {
+                    attached.set(context.hasKey(UserLookupMemo.class));
+                    return Mono.empty();
+                })))
+                .verifyComplete();
+        return attached.get();
+    }
+}
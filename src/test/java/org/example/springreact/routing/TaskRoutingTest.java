@@ -1,15 +1,24 @@
 package org.example.springreact.routing;
 
 import org.example.springreact.AbstractTest;
+import org.example.springreact.dto.ObserverResponse;
+import org.example.springreact.dto.TaskImportResult;
 import org.example.springreact.dto.TaskResponse;
 import org.example.springreact.dto.UpsertTaskRequest;
 import org.example.springreact.dto.UserResponse;
+import org.example.springreact.model.TaskImportStatus;
 import org.example.springreact.model.TaskStatus;
+import org.example.springreact.utils.BodyMediaTypes;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +41,51 @@ public class TaskRoutingTest extends AbstractTest {
                 .hasSize(2);
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenStreamAllTasksWithRole_thenReturnNdjson() {
+        var tasks = webTestClient.get().uri("/api/functions/tasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(tasks)
+                .expectNextCount(2)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetAllTasksAcceptingSmile_thenReturnSmile() {
+        webTestClient.get().uri("/api/functions/tasks")
+                .accept(BodyMediaTypes.APPLICATION_SMILE)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BodyMediaTypes.APPLICATION_SMILE)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(2)
+                .value(tasks -> assertTrue(tasks.stream()
+                        .anyMatch(task -> SECOND_TASK_ID.equals(task.getId()) && task.getObservers().size() == 2)));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenSearchTasksWithAssigneeFilter_thenReturnMatchingTasks() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/functions/tasks/search")
+                        .queryParam("q", "description")
+                        .queryParam("assigneeId", FIRST_USER_ID)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(SECOND_TASK_ID, tasks.get(0).getId()));
+    }
+
     @Test
     public void whenGetTaskByIdWithoutRole_thenReturnError() {
         webTestClient.get().uri("/api/functions/tasks/{id}", SECOND_TASK_ID)
@@ -64,6 +118,118 @@ public class TaskRoutingTest extends AbstractTest {
                 });
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTaskByIdAcceptingSmile_thenReturnSmileWithDistinctETag() {
+        String jsonTag = webTestClient.get().uri("/api/functions/tasks/{id}", SECOND_TASK_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .returnResult(TaskResponse.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/functions/tasks/{id}", SECOND_TASK_ID)
+                .accept(BodyMediaTypes.APPLICATION_SMILE)
+                .ifNoneMatch(jsonTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BodyMediaTypes.APPLICATION_SMILE)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectHeader().value(HttpHeaders.ETAG, etag -> assertNotEquals(jsonTag, etag))
+                .expectBody(TaskResponse.class)
+                .value(response -> {
+                    assertEquals(SECOND_TASK_ID, response.getId());
+                    assertEquals(2, response.getObservers().size());
+                });
+    }
+
+    @Test
+    public void whenImportTasksWithAuthorization_thenReturnResultPerRecord() {
+        String body = String.join("\n",
+                "{\"name\":\"Imported 1\",\"status\":\"TODO\",\"assigneeId\":\"" + FIRST_USER_ID + "\"}",
+                "{\"name\":\"\",\"status\":\"TODO\"}",
+                "{\"name\":\"Imported 3\",\"status\":\"DONE\",\"assigneeId\":\"missing\"}",
+                "{\"name\":\"Imported 4\",\"status\":\"IN_PROGRESS\"}");
+
+        webTestClient.post().uri("/api/functions/tasks/import")
+                .header("Authorization", obtainBearerToken(SECOND_USER_AUTHORIZATION))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskImportResult.class)
+                .value(results -> {
+                    assertEquals(4, results.size());
+                    assertEquals(List.of(0L, 1L, 2L, 3L), results.stream().map(TaskImportResult::getIndex).toList());
+                    assertEquals(TaskImportStatus.CREATED, results.get(0).getStatus());
+                    assertEquals(TaskImportStatus.REJECTED, results.get(1).getStatus());
+                    assertEquals(TaskImportStatus.REJECTED, results.get(2).getStatus());
+                    assertEquals(TaskImportStatus.CREATED, results.get(3).getStatus());
+                    assertNotNull(results.get(0).getTaskId());
+                    assertNotNull(results.get(2).getError());
+                });
+
+        StepVerifier.create(taskRepository.count())
+                .expectNext(4L)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenImportTasksWithWrongRole_thenReturnForbidden() {
+        webTestClient.post().uri("/api/functions/tasks/import")
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"name\":\"Imported\",\"status\":\"TODO\"}")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksFilteredByAssignee_thenReturnMatchingTasks() {
+        webTestClient.get().uri("/api/functions/tasks?assigneeId={id}&sort=-updatedAt", SECOND_USER_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> assertEquals(FIRST_TASK_ID, tasks.get(0).getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithSparseFieldsAndExpand_thenReturnRequestedShape() {
+        webTestClient.get().uri("/api/functions/tasks?fields=id,name,assignee&assigneeId={id}", SECOND_USER_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .hasSize(1)
+                .value(tasks -> {
+                    assertEquals("Task 1", tasks.get(0).getName());
+                    assertNull(tasks.get(0).getDescription());
+                    assertEquals(SECOND_USER_ID, tasks.get(0).getAssignee().getId());
+                    assertNull(tasks.get(0).getAuthor());
+                });
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithUnknownField_thenReturnBadRequest() {
+        webTestClient.get().uri("/api/functions/tasks?fields=id,secret")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetTasksWithInvalidStatus_thenReturnBadRequest() {
+        webTestClient.get().uri("/api/functions/tasks?status=UNKNOWN")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     public void whenCreateTaskWithoutRole_thenReturnError() {
         webTestClient.post().uri("/api/functions/tasks")
@@ -81,7 +247,7 @@ public class TaskRoutingTest extends AbstractTest {
         request.setAssigneeId(FIRST_USER_ID);
 
         webTestClient.post().uri("/api/functions/tasks")
-                .header("Authorization", FIRST_USER_AUTHORIZATION)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
                 .body(Mono.just(request), UpsertTaskRequest.class)
                 .exchange()
                 .expectStatus().isForbidden();
@@ -101,7 +267,7 @@ public class TaskRoutingTest extends AbstractTest {
         request.setAssigneeId(FIRST_USER_ID);
 
         webTestClient.post().uri("/api/functions/tasks")
-                .header("Authorization", SECOND_USER_AUTHORIZATION)
+                .header("Authorization", obtainBearerToken(SECOND_USER_AUTHORIZATION))
                 .body(Mono.just(request), UpsertTaskRequest.class)
                 .exchange()
                 .expectStatus().isOk()
@@ -198,9 +364,47 @@ public class TaskRoutingTest extends AbstractTest {
     }
 
     @Test
-    public void whenAddObserverWithAuthorization_thenReturnTask() {
+    public void whenAddObserverWithAuthorization_thenReturnAcknowledgement() {
         webTestClient.post().uri("/api/functions/tasks/{id}/observe", FIRST_TASK_ID)
-                .header("Authorization", FIRST_USER_AUTHORIZATION)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ObserverResponse.class)
+                .isEqualTo(new ObserverResponse(FIRST_TASK_ID, FIRST_USER_ID, true));
+
+        StepVerifier.create(taskRepository.findById(FIRST_TASK_ID))
+                .assertNext(task -> assertEquals(Set.of(FIRST_USER_ID), task.getObserverIds()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenAddObserverToMissingTask_thenReturnNotFound() {
+        webTestClient.post().uri("/api/functions/tasks/{id}/observe", "missing")
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenRemoveObserverWithAuthorization_thenReturnAcknowledgement() {
+        webTestClient.delete().uri("/api/functions/tasks/{id}/observe", SECOND_TASK_ID)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ObserverResponse.class)
+                .isEqualTo(new ObserverResponse(SECOND_TASK_ID, FIRST_USER_ID, false));
+
+        StepVerifier.create(taskRepository.findById(SECOND_TASK_ID))
+                .assertNext(task -> assertEquals(Set.of(SECOND_USER_ID), task.getObserverIds()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void whenAddObserverWithHydration_thenReturnTask() {
+        webTestClient.post().uri("/api/functions/tasks/{id}/observe?hydrate=true", FIRST_TASK_ID)
+                .header("Authorization", obtainBearerToken(FIRST_USER_AUTHORIZATION))
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody(TaskResponse.class)
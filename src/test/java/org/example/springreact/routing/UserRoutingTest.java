@@ -3,6 +3,7 @@ package org.example.springreact.routing;
 import org.example.springreact.AbstractTest;
 import org.example.springreact.dto.UpsertUserRequest;
 import org.example.springreact.dto.UserResponse;
+import org.example.springreact.model.CursorPage;
 import org.example.springreact.model.RoleType;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class UserRoutingTest extends AbstractTest {
@@ -39,6 +41,31 @@ public class UserRoutingTest extends AbstractTest {
                 .contains(expectedData.toArray(UserResponse[]::new));
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetUsersPageWithRole_thenReturnPageAndNextCursor() {
+        var firstPage = webTestClient.get().uri("/api/functions/users?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(UserResponse.class)
+                .hasSize(1)
+                .returnResult();
+        String cursor = firstPage.getResponseHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+        String firstUserId = firstPage.getResponseBody().get(0).getId();
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/functions/users")
+                        .queryParam("limit", 1)
+                        .queryParam("after", cursor)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(UserResponse.class)
+                .hasSize(1)
+                .value(users -> assertNotEquals(firstUserId, users.get(0).getId()));
+    }
+
     @Test
     public void whenGetUserByIdWithoutRole_thenReturnError() {
         webTestClient.get().uri("/api/functions/users/{id}", FIRST_USER_ID)
@@ -58,6 +85,25 @@ public class UserRoutingTest extends AbstractTest {
                 .isEqualTo(expectedData);
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    public void whenGetUserByIdWithMatchingETag_thenReturnNotModified() {
+        String etag = webTestClient.get().uri("/api/functions/users/{id}", FIRST_USER_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(UserResponse.class)
+                .getResponseHeaders().getETag();
+
+        assertNotNull(etag);
+
+        webTestClient.get().uri("/api/functions/users/{id}", FIRST_USER_ID)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
     @Test
     public void whenCreateUser_thenReturnNewUser() {
         StepVerifier.create(userRepository.count())
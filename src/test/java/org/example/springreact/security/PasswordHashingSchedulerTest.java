@@ -0,0 +1,84 @@
+package org.example.springreact.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.springreact.configuration.AppSecurityProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingSchedulerTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingEncoder passwordEncoder = new BlockingEncoder(release);
+    private PasswordHashingScheduler scheduler;
+
+    @AfterEach
+    public void afterEach() {
+        release.countDown();
+        scheduler.destroy();
+    }
+
+    @Test
+    public void whenEncode_thenHashOnWorkerPool() {
+        release.countDown();
+        scheduler = newScheduler(2, 4);
+
+        StepVerifier.create(scheduler.encode("secret"))
+                .assertNext(hash -> assertTrue(hash.startsWith("password-hashing-"), hash))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenPoolAndQueueAreFull_thenRejectWithServiceUnavailable() throws InterruptedException {
+        scheduler = newScheduler(1, 1);
+        scheduler.encode("running").subscribe();
+        assertTrue(passwordEncoder.started.await(5, TimeUnit.SECONDS));
+        scheduler.encode("queued").subscribe();
+
+        StepVerifier.create(scheduler.encode("rejected"))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+        assertEquals(1, scheduler.getRejectedCount());
+        assertEquals(1, scheduler.getQueueSize());
+    }
+
+    private PasswordHashingScheduler newScheduler(int poolSize, int queueCapacity) {
+        AppSecurityProperties properties = new AppSecurityProperties();
+        properties.getPasswordHashing().setPoolSize(poolSize);
+        properties.getPasswordHashing().setQueueCapacity(queueCapacity);
+        return new PasswordHashingScheduler(passwordEncoder, properties, new SimpleMeterRegistry());
+    }
+
+    private static class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.springreact.service;
+
+import org.example.springreact.AbstractTest;
+import org.example.springreact.configuration.ChangeFeedProperties;
+import org.example.springreact.dto.TaskChangeEvent;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.example.springreact.model.TaskChangeType;
+import org.example.springreact.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskChangeFeedTest extends AbstractTest {
+    private static final String PROBE_PREFIX = "probe-";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserBatchLoader userBatchLoader;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    private TaskChangeFeed feed;
+
+    @AfterEach
+    public void closeFeed() {
+        if (feed != null) {
+            feed.destroy();
+        }
+    }
+
+    @Test
+    public void whenTaskIsInsertedUpdatedAndDeleted_thenEmitLiveEvents() {
+        feed = connectedFeed(1000);
+        String id = UUID.randomUUID().toString();
+
+        StepVerifier.create(feed.changes(null).filter(event -> id.equals(event.getTaskId())).take(3))
+                .then(() -> taskRepository.save(task(id, "Created"))
+                        .then(taskRepository.updateNonNullFields(id, patch("Renamed")))
+                        .then(taskRepository.deleteById(id))
+                        .block())
+                .assertNext(event -> {
+                    assertEquals(TaskChangeType.INSERT, event.getType());
+                    assertEquals("Created", event.getTask().getName());
+                    assertEquals(FIRST_USER_ID, event.getTask().getAuthor().getId());
+                })
+                .assertNext(event -> {
+                    assertEquals(TaskChangeType.UPDATE, event.getType());
+                    assertEquals("Renamed", event.getTask().getName());
+                })
+                .assertNext(event -> {
+                    assertEquals(TaskChangeType.DELETE, event.getType());
+                    assertNull(event.getTask());
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenResumeFromTokenInHistory_thenReplayLaterChanges() {
+        feed = connectedFeed(1000);
+        String id = UUID.randomUUID().toString();
+        TaskChangeEvent inserted = publish(id, taskRepository.save(task(id, "Created")));
+        publish(id, taskRepository.updateNonNullFields(id, patch("Renamed")));
+
+        StepVerifier.create(feed.changes(inserted.getResumeToken()).filter(event -> id.equals(event.getTaskId())).next())
+                .assertNext(event -> {
+                    assertEquals(TaskChangeType.UPDATE, event.getType());
+                    assertEquals("Renamed", event.getTask().getName());
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenResumeFromEvictedToken_thenReplayFromMongoAndRejoinSharedStream() {
+        feed = connectedFeed(2);
+        String id = UUID.randomUUID().toString();
+        TaskChangeEvent inserted = publish(id, taskRepository.save(task(id, "A")));
+        for (String name : new String[]{"B", "C", "D"}) {
+            publish(id, taskRepository.updateNonNullFields(id, patch(name)));
+        }
+
+        StepVerifier.create(feed.changes(inserted.getResumeToken())
+                        .filter(event -> id.equals(event.getTaskId()))
+                        .map(event -> event.getTask().getName())
+                        .take(4))
+                .expectNext("B", "C", "D")
+                .then(() -> taskRepository.updateNonNullFields(id, patch("E")).block())
+                .expectNext("E")
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenNoChangesArrive_thenEmitHeartbeats() {
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        feed = new TaskChangeFeed(mongoTemplate, userBatchLoader, taskMapper, properties);
+
+        StepVerifier.create(feed.events(null).take(2))
+                .assertNext(event -> assertEquals("heartbeat", event.comment()))
+                .assertNext(event -> assertEquals("heartbeat", event.comment()))
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    private TaskChangeFeed connectedFeed(int historySize) {
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setHistorySize(historySize);
+        TaskChangeFeed changeFeed = new TaskChangeFeed(mongoTemplate, userBatchLoader, taskMapper, properties);
+        // the shared change stream opens asynchronously, so keep writing probes until one comes through
+        Mono<TaskChangeEvent> probe = changeFeed.changes(null)
+                .filter(event -> event.getTaskId() != null && event.getTaskId().startsWith(PROBE_PREFIX))
+                .next()
+                .cache();
+        Flux.interval(Duration.ZERO, Duration.ofMillis(200))
+                .concatMap(tick -> taskRepository.save(task(PROBE_PREFIX + UUID.randomUUID(), "Probe")))
+                .takeUntilOther(probe)
+                .then(probe)
+                .block(TIMEOUT);
+        return changeFeed;
+    }
+
+    private TaskChangeEvent publish(String id, Mono<TaskEntity> write) {
+        Mono<TaskChangeEvent> published = feed.changes(null)
+                .filter(event -> id.equals(event.getTaskId()))
+                .next()
+                .cache();
+        published.subscribe();
+        return write.then(published).block(TIMEOUT);
+    }
+
+    private static TaskEntity task(String id, String name) {
+        TaskEntity task = new TaskEntity();
+        task.setId(id);
+        task.setName(name);
+        task.setStatus(TaskStatus.TODO);
+        task.setAuthorId(FIRST_USER_ID);
+        task.setAssigneeId(SECOND_USER_ID);
+        task.setObserverIds(new HashSet<>());
+        return task;
+    }
+
+    private static TaskEntity patch(String name) {
+        TaskEntity patch = new TaskEntity();
+        patch.setName(name);
+        return patch;
+    }
+}
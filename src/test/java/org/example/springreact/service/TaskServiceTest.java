@@ -0,0 +1,104 @@
+package org.example.springreact.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.springreact.configuration.ConcurrencyProperties;
+import org.example.springreact.configuration.HydrationProperties;
+import org.example.springreact.configuration.PaginationProperties;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.metrics.AppMetrics;
+import org.example.springreact.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaskServiceTest {
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final List<Long> attemptedVersions = new ArrayList<>();
+    private TaskService taskService;
+
+    @BeforeEach
+    public void setup() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AppMetrics appMetrics = new AppMetrics(meterRegistry);
+        HydrationProperties hydrationProperties = new HydrationProperties();
+        ConcurrencyProperties concurrencyProperties = new ConcurrencyProperties();
+        concurrencyProperties.setRetryBackoff(Duration.ofMillis(1));
+        taskService = new TaskService(taskRepository, userService,
+                new UserBatchLoader(userService, hydrationProperties, appMetrics),
+                hydrationProperties, new PaginationProperties(), concurrencyProperties,
+                new SingleFlight<>("task", Duration.ZERO, meterRegistry), appMetrics);
+        when(userService.findById(any())).thenReturn(Mono.just(new UserEntity()));
+    }
+
+    @Test
+    public void whenUpdateWithoutIfMatchLosesRace_thenReapplyToLatestVersion() {
+        // every read sees the version written by the writer that won the previous round
+        AtomicLong latest = new AtomicLong();
+        when(taskRepository.findVersionById("task")).thenReturn(Mono.fromSupplier(() -> version(latest.incrementAndGet())));
+        stubUpdatesWinningAt(3L);
+
+        StepVerifier.create(taskService.update("task", patch("New name")))
+                .assertNext(task -> assertEquals(4L, task.getVersion()))
+                .verifyComplete();
+
+        assertEquals(List.of(1L, 2L, 3L), attemptedVersions);
+    }
+
+    @Test
+    public void whenUpdateWithoutIfMatchKeepsLosingRace_thenReturnConflict() {
+        when(taskRepository.findVersionById("task")).thenReturn(Mono.fromSupplier(() -> version(1L)));
+        stubUpdatesWinningAt(-1L);
+
+        StepVerifier.create(taskService.update("task", patch("New name")))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(HttpStatus.CONFLICT, ((ResponseStatusException) error).getStatusCode());
+                    assertInstanceOf(OptimisticLockingFailureException.class, error.getCause());
+                })
+                .verify();
+
+        assertEquals(new ConcurrencyProperties().getMaxRetries() + 1, attemptedVersions.size());
+    }
+
+    private void stubUpdatesWinningAt(long winningVersion) {
+        when(taskRepository.updateNonNullFields(eq("task"), any())).thenAnswer(invocation -> {
+            TaskEntity patch = invocation.getArgument(1);
+            long version = patch.getVersion();
+            attemptedVersions.add(version);
+            if (version != winningVersion) {
+                return Mono.error(new OptimisticLockingFailureException("Task task has moved past " + version));
+            }
+            TaskEntity updated = version(version + 1);
+            updated.setName(patch.getName());
+            updated.setObserverIds(Set.of());
+            return Mono.just(updated);
+        });
+    }
+
+    private static TaskEntity patch(String name) {
+        TaskEntity patch = new TaskEntity();
+        patch.setName(name);
+        return patch;
+    }
+
+    private static TaskEntity version(Long version) {
+        TaskEntity task = new TaskEntity();
+        task.setId("task");
+        task.setVersion(version);
+        return task;
+    }
+}
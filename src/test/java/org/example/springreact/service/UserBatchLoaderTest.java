@@ -0,0 +1,90 @@
+package org.example.springreact.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.springreact.configuration.HydrationProperties;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.metrics.AppMetrics;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class UserBatchLoaderTest {
+    private final Map<String, UserEntity> users = Set.of("a", "b", "c").stream()
+            .collect(Collectors.toMap(Function.identity(), UserBatchLoaderTest::user));
+    private final List<Collection<String>> lookups = new ArrayList<>();
+    private final UserService userService = mock(UserService.class);
+    private final UserBatchLoader userBatchLoader =
+            new UserBatchLoader(userService, new HydrationProperties(), new AppMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    public void whenPopulatePageOfTasks_thenLoadUsersOnce() {
+        stubUserLookups();
+        List<TaskEntity> tasks = IntStream.range(0, 20)
+                .mapToObj(i -> task("a", "b", Set.of("a", "c")))
+                .toList();
+
+        StepVerifier.create(userBatchLoader.populateTasksWithUsers(Flux.fromIterable(tasks)))
+                .expectNextCount(20)
+                .verifyComplete();
+
+        verify(userService, times(1)).findAllById(anyCollection());
+        assertEquals(Set.of("a", "b", "c"), Set.copyOf(lookups.get(0)));
+        assertTrue(tasks.stream().allMatch(task -> task.getAuthor() == users.get("a")
+                && task.getAssignee() == users.get("b")
+                && task.getObservers().size() == 2));
+    }
+
+    @Test
+    public void whenReferencedUsersAreMissing_thenLeaveThemOut() {
+        stubUserLookups();
+        TaskEntity task = task("missing-author", "missing-assignee", Set.of("a", "missing-observer"));
+        TaskEntity unassigned = task("b", null, null);
+
+        StepVerifier.create(userBatchLoader.populateTasksWithUsers(Flux.just(task, unassigned)))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertNull(task.getAuthor());
+        assertNull(task.getAssignee());
+        assertEquals(Set.of(users.get("a")), task.getObservers());
+        assertSame(users.get("b"), unassigned.getAuthor());
+        assertNull(unassigned.getAssignee());
+        assertTrue(unassigned.getObservers().isEmpty());
+    }
+
+    private void stubUserLookups() {
+        when(userService.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            lookups.add(ids);
+            return Flux.fromIterable(ids).filter(users::containsKey).map(users::get);
+        });
+    }
+
+    private static TaskEntity task(String authorId, String assigneeId, Set<String> observerIds) {
+        TaskEntity task = new TaskEntity();
+        task.setAuthorId(authorId);
+        task.setAssigneeId(assigneeId);
+        task.setObserverIds(observerIds);
+        return task;
+    }
+
+    private static UserEntity user(String id) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUsername("User " + id);
+        return user;
+    }
+}
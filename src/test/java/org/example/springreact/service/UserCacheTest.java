@@ -0,0 +1,97 @@
+package org.example.springreact.service;
+
+import org.example.springreact.configuration.PaginationProperties;
+import org.example.springreact.configuration.UserCacheProperties;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.repository.ReadRouting;
+import org.example.springreact.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class UserCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final UserCache userCache = new UserCache(new UserCacheProperties(), nanos::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void whenGetSameUserTwice_thenLoadItOnce() {
+        StepVerifier.create(userCache.getById("a", this::load)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(userCache.getById("a", id -> Mono.error(new IllegalStateException("loaded twice"))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1, userCache.hitCount());
+        assertEquals(1, userCache.missCount());
+    }
+
+    @Test
+    public void whenEntryOutlivesExpireAfterWrite_thenLoadItAgain() {
+        StepVerifier.create(userCache.getById("a", this::load)).expectNextCount(1).verifyComplete();
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        StepVerifier.create(userCache.getById("a", this::load)).expectNextCount(1).verifyComplete();
+        assertEquals(1, loads.get());
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        StepVerifier.create(userCache.getById("a", this::load)).expectNextCount(1).verifyComplete();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void whenUserIsUpdatedOrDeleted_thenInvalidateCachedEntry() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById("a")).thenAnswer(invocation -> load("a"));
+        when(userRepository.updateNonNullFields(eq("a"), any())).thenReturn(Mono.just(user("a")));
+        when(userRepository.deleteById("a")).thenReturn(Mono.empty());
+        UserService userService = new UserService(userRepository, null, userCache, new PaginationProperties());
+
+        StepVerifier.create(userService.findById("a")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(userService.findById("a")).expectNextCount(1).verifyComplete();
+        assertEquals(1, loads.get());
+
+        StepVerifier.create(userService.update("a", new UserEntity())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(userService.findById("a")).expectNextCount(1).verifyComplete();
+        assertEquals(2, loads.get());
+
+        StepVerifier.create(userService.deleteById("a")).verifyComplete();
+        StepVerifier.create(userService.findById("a")).expectNextCount(1).verifyComplete();
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void whenLoadUserForSecondaryRead_thenFillCacheFromPrimary() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById("a")).thenReturn(Mono.deferContextual(context -> ReadRouting.prefersSecondary(context)
+                ? Mono.error(new IllegalStateException("loaded from secondary"))
+                : load("a")));
+        UserService userService = new UserService(userRepository, null, userCache, new PaginationProperties());
+
+        StepVerifier.create(userService.findById("a").contextWrite(ReadRouting::preferSecondary))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    private Mono<UserEntity> load(String id) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return user(id);
+        });
+    }
+
+    private static UserEntity user(String id) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUsername("User " + id);
+        return user;
+    }
+}
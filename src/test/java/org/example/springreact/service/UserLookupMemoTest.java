@@ -0,0 +1,112 @@
+package org.example.springreact.service;
+
+import org.example.springreact.dto.TaskResponse;
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.mapper.TaskMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserLookupMemoTest {
+    @Test
+    public void whenLookUpSameUserRepeatedly_thenLoadItOnce() {
+        UserLookupMemo memo = new UserLookupMemo();
+        AtomicInteger loads = new AtomicInteger();
+        List<Collection<String>> batches = new ArrayList<>();
+
+        Flux<UserEntity> lookups = Flux.concat(
+                memo.user("a", id -> Mono.fromSupplier(() -> {
+                    loads.incrementAndGet();
+                    return user(id);
+                })),
+                memo.user("a", id -> Mono.error(new IllegalStateException("loaded twice"))),
+                memo.users(Set.of("a", "b"), ids -> {
+                    batches.add(Set.copyOf(ids));
+                    return Flux.fromIterable(ids).map(UserLookupMemoTest::user);
+                }),
+                memo.users(Set.of("b"), ids -> Flux.error(new IllegalStateException("loaded twice"))));
+
+        StepVerifier.create(lookups)
+                .expectNextCount(4)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of(Set.of("b")), batches);
+    }
+
+    @Test
+    public void whenMapTasksSharingUsers_thenMapEachUserOnce() {
+        TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+        UserEntity manager = user("manager");
+
+        TaskEntity first = new TaskEntity();
+        first.setAuthor(manager);
+        first.setAssignee(manager);
+        first.setObservers(Set.of(manager));
+        TaskEntity second = new TaskEntity();
+        second.setAuthor(manager);
+
+        Flux<TaskResponse> responses = UserLookupMemo.map(Flux.just(first, second), taskMapper::entityToResponse)
+                .contextWrite(UserLookupMemo::attach);
+
+        StepVerifier.create(responses.collectList())
+                .assertNext(tasks -> {
+                    assertSame(tasks.get(0).getAuthor(), tasks.get(0).getAssignee());
+                    assertSame(tasks.get(0).getAuthor(), tasks.get(0).getObservers().iterator().next());
+                    assertSame(tasks.get(0).getAuthor(), tasks.get(1).getAuthor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenStreamWithoutMemoInContext_thenRetainNothing() {
+        TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+        UserEntity manager = user("manager");
+        AtomicInteger loads = new AtomicInteger();
+
+        TaskEntity first = new TaskEntity();
+        first.setAuthor(manager);
+        TaskEntity second = new TaskEntity();
+        second.setAuthor(manager);
+
+        StepVerifier.create(UserLookupMemo.map(Flux.just(first, second), taskMapper::entityToResponse).collectList())
+                .assertNext(tasks -> assertNotSame(tasks.get(0).getAuthor(), tasks.get(1).getAuthor()))
+                .verifyComplete();
+
+        UserLookupMemo memo = UserLookupMemo.from(Context.empty());
+        Flux<UserEntity> lookups = Flux.concat(
+                memo.user("a", id -> Mono.fromSupplier(() -> {
+                    loads.incrementAndGet();
+                    return user(id);
+                })),
+                memo.user("a", id -> Mono.fromSupplier(() -> {
+                    loads.incrementAndGet();
+                    return user(id);
+                })));
+
+        StepVerifier.create(lookups)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+
+    private static UserEntity user(String id) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUsername("User " + id);
+        return user;
+    }
+}
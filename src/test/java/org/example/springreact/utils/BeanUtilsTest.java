@@ -0,0 +1,43 @@
+package org.example.springreact.utils;
+
+import org.example.springreact.entity.TaskEntity;
+import org.example.springreact.entity.UserEntity;
+import org.example.springreact.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BeanUtilsTest {
+    @Test
+    public void whenCopyNonNullProperties_thenOnlyNonNullWritablePropertiesAreCopied() {
+        TaskEntity target = new TaskEntity();
+        target.setId("target");
+        target.setName("Old name");
+        target.setDescription("Old description");
+        target.setStatus(TaskStatus.TODO);
+
+        TaskEntity patch = new TaskEntity();
+        patch.setId("patch");
+        patch.setName("New name");
+        patch.setStatus(TaskStatus.DONE);
+        patch.setObserverIds(Set.of("observer"));
+        patch.setAuthor(new UserEntity());
+
+        BeanUtils.copyNonNullProperties(patch, target);
+
+        assertEquals("target", target.getId());
+        assertEquals("New name", target.getName());
+        assertEquals("Old description", target.getDescription());
+        assertEquals(TaskStatus.DONE, target.getStatus());
+        assertEquals(Set.of("observer"), target.getObserverIds());
+        assertNull(target.getAuthor());
+    }
+
+    @Test
+    public void whenCopyBetweenDifferentTypes_thenThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BeanUtils.copyNonNullProperties(new TaskEntity(), new UserEntity()));
+    }
+}